@@ -0,0 +1,82 @@
+package net.minestom.server.network;
+
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.EntityHeadLookPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionAndRotationPacket;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the number of packets broadcast per second to {@link #VIEWER_COUNT} viewers,
+ * comparing the previous pooled copy of each packet with direct serialization into the viewable storage.
+ * <p>
+ * Each invocation appends {@link #PACKET_COUNT} packets to the storage then copies it to every viewer tick buffer.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BroadcastBenchmark {
+    static final int VIEWER_COUNT = 100;
+    static final int PACKET_COUNT = 100;
+
+    ServerPacket[] packets;
+    BinaryBuffer storage;
+    BinaryBuffer[] viewers;
+
+    @Setup
+    public void setup() {
+        this.packets = new ServerPacket[PACKET_COUNT];
+        for (int i = 0; i < PACKET_COUNT; i++) {
+            packets[i] = i % 2 == 0 ?
+                    new EntityPositionAndRotationPacket(i, (short) 1, (short) 2, (short) 3, 90, 45, true) :
+                    new EntityHeadLookPacket(i, 90);
+        }
+        this.storage = BinaryBuffer.ofSize(262_143);
+        this.viewers = new BinaryBuffer[VIEWER_COUNT];
+        for (int i = 0; i < VIEWER_COUNT; i++) viewers[i] = BinaryBuffer.ofSize(262_143);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PACKET_COUNT)
+    public void pooledCopy() {
+        storage.clear();
+        for (ServerPacket packet : packets) {
+            try (var hold = ObjectPool.PACKET_POOL.hold()) {
+                final ByteBuffer framed = PacketUtils.createFramedPacket(ConnectionState.PLAY, hold.get(), packet, false);
+                storage.write(framed);
+            }
+        }
+        // Flush copy
+        final ByteBuffer copy = ByteBuffer.allocateDirect(storage.writerOffset());
+        copy.put(storage.asByteBuffer(0, copy.capacity()));
+        broadcast(copy);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PACKET_COUNT)
+    public void directToWire() {
+        storage.clear();
+        for (ServerPacket packet : packets) {
+            final int start = storage.writerOffset();
+            final ByteBuffer target = storage.asByteBuffer(start, storage.capacity() - start - 1);
+            PacketUtils.writeFramedPacket(ConnectionState.PLAY, target, packet, false);
+            storage.writerOffset(start + target.position());
+        }
+        broadcast(storage.asByteBuffer(0, storage.writerOffset()));
+    }
+
+    private void broadcast(ByteBuffer buffer) {
+        for (BinaryBuffer viewer : viewers) {
+            viewer.clear();
+            viewer.write(buffer, 0, buffer.limit());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package net.minestom.server.network;
+
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.network.player.EncryptionContext;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares direct buffer {@link Cipher#update(ByteBuffer, ByteBuffer)} calls with the in-place
+ * {@link EncryptionContext} path used by connections.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EncryptionBenchmark {
+    @Param({"16", "64", "512", "8192", "65536"})
+    public int size;
+
+    Cipher cipher;
+    EncryptionContext context;
+
+    ByteBuffer input;
+    ByteBuffer output;
+
+    @Setup
+    public void setup() {
+        final SecretKey key = new SecretKeySpec(new byte[16], "AES");
+        this.cipher = MojangCrypt.getCipher(Cipher.ENCRYPT_MODE, key);
+        this.context = new EncryptionContext(key);
+        this.input = ByteBuffer.allocateDirect(size);
+        this.output = ByteBuffer.allocateDirect(size);
+    }
+
+    @Benchmark
+    public ByteBuffer directCipher() throws ShortBufferException {
+        cipher.update(input.clear(), output.clear());
+        return output;
+    }
+
+    @Benchmark
+    public ByteBuffer inPlaceContext() {
+        context.encrypt(input, 0, size);
+        return input;
+    }
+}
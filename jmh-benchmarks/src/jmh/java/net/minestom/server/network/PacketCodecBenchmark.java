@@ -0,0 +1,110 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.packet.client.common.ClientKeepAlivePacket;
+import net.minestom.server.network.packet.client.play.*;
+import net.minestom.server.network.packet.server.common.KeepAlivePacket;
+import net.minestom.server.network.packet.server.play.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.Map.entry;
+import static net.minestom.server.network.NetworkBuffer.*;
+
+/**
+ * Measures the encoding and decoding time of the most frequent packets,
+ * and compares boxed {@link NetworkBuffer.Type} fields with the primitive accessors.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PacketCodecBenchmark {
+    private static final Map<String, Codec> CODECS = Map.ofEntries(
+            entry("EntityPositionAndRotation", new Codec(new EntityPositionAndRotationPacket(1234, (short) 1, (short) 2, (short) 3, 90, 45, true), EntityPositionAndRotationPacket::new)),
+            entry("EntityPosition", new Codec(new EntityPositionPacket(1234, (short) 1, (short) 2, (short) 3, true), EntityPositionPacket::new)),
+            entry("EntityRotation", new Codec(new EntityRotationPacket(1234, 90, 45, true), EntityRotationPacket::new)),
+            entry("EntityHeadLook", new Codec(new EntityHeadLookPacket(1234, 90), EntityHeadLookPacket::new)),
+            entry("EntityTeleport", new Codec(new EntityTeleportPacket(1234, new Pos(1, 2, 3, 90, 45), true), EntityTeleportPacket::new)),
+            entry("EntityVelocity", new Codec(new EntityVelocityPacket(1234, (short) 100, (short) -200, (short) 300), EntityVelocityPacket::new)),
+            entry("KeepAlive", new Codec(new KeepAlivePacket(123_456_789L), KeepAlivePacket::new)),
+            entry("TimeUpdate", new Codec(new TimeUpdatePacket(123_456_789L, 6000), TimeUpdatePacket::new)),
+            entry("EntityAnimation", new Codec(new EntityAnimationPacket(1234, EntityAnimationPacket.Animation.SWING_MAIN_ARM), EntityAnimationPacket::new)),
+            entry("EntityStatus", new Codec(new EntityStatusPacket(1234, (byte) 2), EntityStatusPacket::new)),
+            entry("UpdateHealth", new Codec(new UpdateHealthPacket(20, 20, 5), UpdateHealthPacket::new)),
+            entry("SetExperience", new Codec(new SetExperiencePacket(0.5f, 30, 1395), SetExperiencePacket::new)),
+            entry("BlockChange", new Codec(new BlockChangePacket(new Vec(1, 2, 3), 1), BlockChangePacket::new)),
+            entry("ClientPlayerPosition", new Codec(new ClientPlayerPositionPacket(new Vec(1, 2, 3), true), ClientPlayerPositionPacket::new)),
+            entry("ClientPlayerPositionAndRotation", new Codec(new ClientPlayerPositionAndRotationPacket(new Pos(1, 2, 3, 90, 45), true), ClientPlayerPositionAndRotationPacket::new)),
+            entry("ClientPlayerRotation", new Codec(new ClientPlayerRotationPacket(90, 45, true), ClientPlayerRotationPacket::new)),
+            entry("ClientPlayer", new Codec(new ClientPlayerPacket(true), ClientPlayerPacket::new)),
+            entry("ClientKeepAlive", new Codec(new ClientKeepAlivePacket(123_456_789L), ClientKeepAlivePacket::new)),
+            entry("ClientTeleportConfirm", new Codec(new ClientTeleportConfirmPacket(42), ClientTeleportConfirmPacket::new)),
+            entry("ClientVehicleMove", new Codec(new ClientVehicleMovePacket(new Pos(1, 2, 3, 90, 45)), ClientVehicleMovePacket::new))
+    );
+
+    @Param({"EntityPositionAndRotation", "EntityPosition", "EntityRotation", "EntityHeadLook", "EntityTeleport",
+            "EntityVelocity", "KeepAlive", "TimeUpdate", "EntityAnimation", "EntityStatus",
+            "UpdateHealth", "SetExperience", "BlockChange", "ClientPlayerPosition", "ClientPlayerPositionAndRotation",
+            "ClientPlayerRotation", "ClientPlayer", "ClientKeepAlive", "ClientTeleportConfirm", "ClientVehicleMove"})
+    public String packet;
+
+    Codec codec;
+    NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        this.codec = CODECS.get(packet);
+        this.buffer = new NetworkBuffer(ByteBuffer.allocateDirect(1024), false);
+        codec.packet().write(buffer);
+    }
+
+    @Benchmark
+    public int encode() {
+        buffer.writeIndex(0);
+        codec.packet().write(buffer);
+        return buffer.writeIndex();
+    }
+
+    @Benchmark
+    public Object decode() {
+        buffer.readIndex(0);
+        return codec.reader().apply(buffer);
+    }
+
+    @Benchmark
+    public int boxedFields() {
+        buffer.writeIndex(0);
+        buffer.write(VAR_INT, 123_456);
+        buffer.write(DOUBLE, 1.5);
+        buffer.write(DOUBLE, 2.5);
+        buffer.write(DOUBLE, 3.5);
+        buffer.write(FLOAT, 90.5f);
+        buffer.write(FLOAT, 45.5f);
+        buffer.write(BOOLEAN, true);
+        return buffer.writeIndex();
+    }
+
+    @Benchmark
+    public int primitiveFields() {
+        buffer.writeIndex(0);
+        buffer.writeVarInt(123_456);
+        buffer.writeDouble(1.5);
+        buffer.writeDouble(2.5);
+        buffer.writeDouble(3.5);
+        buffer.writeFloat(90.5f);
+        buffer.writeFloat(45.5f);
+        buffer.writeBoolean(true);
+        return buffer.writeIndex();
+    }
+
+    record Codec(NetworkBuffer.Writer packet, Function<NetworkBuffer, ?> reader) {
+    }
+}
@@ -0,0 +1,89 @@
+package net.minestom.server.network;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.common.ClientPluginMessagePacket;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Measures the number of inbound packets decoded per second by {@link PacketUtils#readPackets}.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PacketReadBenchmark {
+    static final int PACKET_COUNT = 100;
+    static final int COMPRESSION_THRESHOLD = 256;
+
+    @Param({"false", "true"})
+    public boolean compressed;
+
+    // Both payloads are above the compression threshold, compressed reads always go through the inflater
+    @Param({"small", "large"})
+    public String packet;
+
+    BinaryBuffer readBuffer;
+    int readLength;
+
+    Inflater inflater;
+    ByteBuffer contentBuffer;
+
+    @Setup
+    public void setup() {
+        final ClientPacket clientPacket = switch (packet) {
+            case "small" -> new ClientPluginMessagePacket("minestom:bench", payload(COMPRESSION_THRESHOLD + 64));
+            case "large" -> new ClientPluginMessagePacket("minestom:bench", payload(8192));
+            default -> throw new IllegalArgumentException(packet);
+        };
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ServerFlag.MAX_PACKET_SIZE);
+        for (int i = 0; i < PACKET_COUNT; i++) {
+            PacketUtils.writeFramedPacket(buffer, 0x1A, clientPacket, compressed ? COMPRESSION_THRESHOLD : 0);
+        }
+        this.readLength = buffer.position();
+        this.readBuffer = BinaryBuffer.wrap(buffer);
+
+        this.inflater = new Inflater();
+        this.contentBuffer = ByteBuffer.allocateDirect(ServerFlag.MAX_PACKET_SIZE);
+    }
+
+    private static byte[] payload(int size) {
+        // Small alphabet, compressible without being trivially made of zeros
+        Random random = new Random(0);
+        byte[] payload = new byte[size];
+        for (int i = 0; i < size; i++) payload[i] = (byte) ('a' + random.nextInt(16));
+        return payload;
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.inflater.end();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PACKET_COUNT)
+    public void pooledInflater(Blackhole blackhole) throws DataFormatException {
+        readBuffer.reset(0, readLength);
+        PacketUtils.readPackets(readBuffer, compressed, inflater, contentBuffer,
+                (id, payload) -> blackhole.consume(payload));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PACKET_COUNT)
+    public void threadLocalInflater(Blackhole blackhole) throws DataFormatException {
+        readBuffer.reset(0, readLength);
+        PacketUtils.readPackets(readBuffer, compressed,
+                (id, payload) -> blackhole.consume(payload));
+    }
+}
@@ -0,0 +1,100 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.Tickable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates partitions with a skewed entity count to compare the tick duration of the thread providers.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ThreadDispatcherBenchmark {
+    static final int THREAD_COUNT = 4;
+    static final int PARTITION_COUNT = 256;
+    static final int ENTITY_COUNT = 2000;
+    static final long ENTITY_TOKENS = 500; // Blackhole tokens consumed by each entity tick
+
+    @Param({"counter", "balanced"})
+    public String provider;
+
+    /**
+     * "uniform" spreads the entities evenly, "zipf" follows a zipf distribution over the partitions
+     * and "hotspot" puts half of the entities in a single partition.
+     */
+    @Param({"uniform", "zipf", "hotspot"})
+    public String distribution;
+
+    ThreadDispatcher<Object> dispatcher;
+
+    @Setup
+    public void setup() {
+        this.dispatcher = ThreadDispatcher.of(switch (provider) {
+            case "counter" -> ThreadProvider.counter();
+            case "balanced" -> ThreadProvider.balanced();
+            default -> throw new IllegalArgumentException(provider);
+        }, THREAD_COUNT);
+        List<Object> partitions = new ArrayList<>(PARTITION_COUNT);
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            final Object partition = new Object();
+            partitions.add(partition);
+            dispatcher.createPartition(partition);
+        }
+        final Tickable entity = time -> Blackhole.consumeCPU(ENTITY_TOKENS);
+        final int[] counts = entityCounts(new Random(0));
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            for (int j = 0; j < counts[i]; j++) {
+                // Each element must be a distinct instance
+                dispatcher.updateElement(entity::tick, partitions.get(i));
+            }
+        }
+        // Let the balanced provider converge before measuring
+        for (int i = 0; i < 100; i++) tick();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void tick() {
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        dispatcher.refreshThreads();
+    }
+
+    private int[] entityCounts(Random random) {
+        int[] counts = new int[PARTITION_COUNT];
+        switch (distribution) {
+            case "uniform" -> {
+                for (int i = 0; i < ENTITY_COUNT; i++) counts[random.nextInt(PARTITION_COUNT)]++;
+            }
+            case "zipf" -> {
+                double[] weights = new double[PARTITION_COUNT];
+                double total = 0;
+                for (int i = 0; i < PARTITION_COUNT; i++) total += weights[i] = 1d / (i + 1);
+                for (int i = 0; i < ENTITY_COUNT; i++) {
+                    double value = random.nextDouble() * total;
+                    int index = 0;
+                    while (index < PARTITION_COUNT - 1 && (value -= weights[index]) > 0) index++;
+                    counts[index]++;
+                }
+            }
+            case "hotspot" -> {
+                counts[0] = ENTITY_COUNT / 2;
+                for (int i = 0; i < ENTITY_COUNT / 2; i++) counts[1 + random.nextInt(PARTITION_COUNT - 1)]++;
+            }
+            default -> throw new IllegalArgumentException(distribution);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,62 @@
+package net.minestom.server.timer;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedulers owned by entities and instances, each holding a few tasks.
+ * <p>
+ * Run with {@code -prof gc} to compare the memory retained per scheduler.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SchedulerManyBenchmark {
+    static final int MAX_COOLDOWN = 6000; // 5 minutes
+
+    @Param({"100000"})
+    public int schedulers;
+
+    @Param({"0", "1", "3"})
+    public int tasksPerScheduler;
+
+    Scheduler[] allSchedulers;
+
+    @Setup
+    public void setup() {
+        this.allSchedulers = new Scheduler[schedulers];
+        Random random = new Random(0);
+        for (int i = 0; i < schedulers; i++) {
+            final Scheduler scheduler = Scheduler.newScheduler();
+            for (int j = 0; j < this.tasksPerScheduler; j++) {
+                final TaskSchedule cooldown = TaskSchedule.tick(1 + random.nextInt(MAX_COOLDOWN));
+                scheduler.scheduleTask(() -> {
+                }, cooldown, cooldown);
+            }
+            scheduler.processTick();
+            this.allSchedulers[i] = scheduler;
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        for (Scheduler scheduler : allSchedulers) {
+            scheduler.processTick();
+            scheduler.processTickEnd();
+        }
+    }
+
+    @Benchmark
+    public void create() {
+        // Scheduler of a newly spawned entity, with a single cooldown task
+        final Scheduler scheduler = Scheduler.newScheduler();
+        scheduler.scheduleTask(() -> {
+        }, TaskSchedule.tick(MAX_COOLDOWN), TaskSchedule.stop());
+        scheduler.processTick();
+    }
+}
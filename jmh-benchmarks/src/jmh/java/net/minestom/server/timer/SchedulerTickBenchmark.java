@@ -2,6 +2,7 @@ package net.minestom.server.timer;
 
 import org.openjdk.jmh.annotations.*;
 
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -11,10 +12,17 @@ import java.util.concurrent.TimeUnit;
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
 public class SchedulerTickBenchmark {
+    static final int MAX_COOLDOWN = 6000; // 5 minutes
 
     @Param({"0", "1", "5"})
     public int tickTasks;
 
+    /**
+     * Tasks rescheduling themselves with a random delay, e.g. entity cooldowns.
+     */
+    @Param({"0", "1000000"})
+    public int cooldownTasks;
+
     Scheduler scheduler;
 
     @Setup
@@ -24,10 +32,31 @@ public class SchedulerTickBenchmark {
             this.scheduler.scheduleTask(() -> {
             }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
         }
+        Random random = new Random(0);
+        for (int i = 0; i < this.cooldownTasks; i++) {
+            final TaskSchedule cooldown = TaskSchedule.tick(1 + random.nextInt(MAX_COOLDOWN));
+            this.scheduler.scheduleTask(() -> {
+            }, cooldown, cooldown);
+        }
+        this.scheduler.processTick();
     }
 
     @Benchmark
     public void call() {
         this.scheduler.processTick();
     }
+
+    /**
+     * Includes a tick, compare with {@link #call()}.
+     * <p>
+     * The wheel has to advance for the cancelled tasks to be dropped once their deadline is reached,
+     * at most {@link #MAX_COOLDOWN} of them are therefore kept at once.
+     */
+    @Benchmark
+    public void scheduleCancel() {
+        Task task = this.scheduler.scheduleTask(() -> {
+        }, TaskSchedule.tick(MAX_COOLDOWN), TaskSchedule.stop());
+        task.cancel();
+        this.scheduler.processTick();
+    }
 }
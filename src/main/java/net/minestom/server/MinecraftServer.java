@@ -22,6 +22,7 @@ import net.minestom.server.message.ChatType;
 import net.minestom.server.monitoring.BenchmarkManager;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.compression.PacketCompressor;
 import net.minestom.server.network.packet.server.common.PluginMessagePacket;
 import net.minestom.server.network.packet.server.play.ServerDifficultyPacket;
 import net.minestom.server.network.socket.Server;
@@ -59,6 +60,7 @@ public final class MinecraftServer implements MinecraftConstants {
 
     public static final String THREAD_NAME_TICK_SCHEDULER = "Ms-TickScheduler";
     public static final String THREAD_NAME_TICK = "Ms-Tick";
+    public static final String THREAD_NAME_INSTANCE_TICK = "Ms-InstanceTick";
 
     // Config
     // Can be modified at performance cost when increased
@@ -70,6 +72,7 @@ public final class MinecraftServer implements MinecraftConstants {
     private static volatile ServerProcess serverProcess;
 
     private static int compressionThreshold = 256;
+    private static PacketCompressor packetCompressor = PacketCompressor.jdk();
     private static String brandName = "Minestom";
     private static Difficulty difficulty = Difficulty.NORMAL;
 
@@ -80,9 +83,13 @@ public final class MinecraftServer implements MinecraftConstants {
 
     @ApiStatus.Internal
     public static ServerProcess updateProcess() {
+        return updateProcess(ServerFlag.INSTANCE_TICK_THREADS);
+    }
+
+    static ServerProcess updateProcess(int instanceTickThreads) {
         ServerProcess process;
         try {
-            process = new ServerProcessImpl();
+            process = new ServerProcessImpl(instanceTickThreads);
             serverProcess = process;
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -247,6 +254,28 @@ public final class MinecraftServer implements MinecraftConstants {
         MinecraftServer.compressionThreshold = compressionThreshold;
     }
 
+    /**
+     * Gets the default compressor used for packets reaching the compression threshold.
+     *
+     * @return the packet compressor
+     */
+    public static @NotNull PacketCompressor getPacketCompressor() {
+        return packetCompressor;
+    }
+
+    /**
+     * Changes the default packet compressor, used by every new connection.
+     * <p>
+     * WARNING: this need to be called before {@link #start(SocketAddress)}.
+     *
+     * @param packetCompressor the new packet compressor
+     * @throws IllegalStateException if this is called after the server started
+     */
+    public static void setPacketCompressor(@NotNull PacketCompressor packetCompressor) {
+        Check.stateCondition(serverProcess != null && serverProcess.isAlive(), "The packet compressor cannot be changed after the server has been started.");
+        MinecraftServer.packetCompressor = packetCompressor;
+    }
+
     public static AdvancementManager getAdvancementManager() {
         return serverProcess.advancement();
     }
@@ -23,12 +23,17 @@ public final class ServerFlag {
     public static final int SOCKET_SEND_BUFFER_SIZE = intProperty("minestom.send-buffer-size", 262_143);
     public static final int SOCKET_RECEIVE_BUFFER_SIZE = intProperty("minestom.receive-buffer-size", 32_767);
     public static final int POOLED_BUFFER_SIZE = intProperty("minestom.pooled-buffer-size", 262_143);
+    public static final long OUTBOUND_BUDGET = longProperty("minestom.outbound-budget", 8_388_608);
     public static final int PLAYER_PACKET_PER_TICK = intProperty("minestom.packet-per-tick", 20);
     public static final int PLAYER_PACKET_QUEUE_SIZE = intProperty("minestom.packet-queue-size", 1000);
+    public static final boolean PIPELINED_DECODE = booleanProperty("minestom.decode.pipelined");
+    public static final int DECODE_THREADS = intProperty("minestom.decode.threads", Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
     public static final int SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY = intProperty("minestom.send-light-after-block-placement-delay", 100);
     public static final long KEEP_ALIVE_DELAY = longProperty("minestom.keep-alive-delay", 10_000);
     public static final long KEEP_ALIVE_KICK = longProperty("minestom.keep-alive-kick", 30_000);
     public static final long LOGIN_PLUGIN_MESSAGE_TIMEOUT = longProperty("minestom.login-plugin-message-timeout", 5_000);
+    public static final boolean LOGIN_VIRTUAL_THREADS = booleanProperty("minestom.login.virtual-threads");
+    public static final int LOGIN_CONCURRENCY = intProperty("minestom.login.concurrency", 256);
 
     // Chunk update
     public static final float MIN_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.min-per-tick", 0.01f);
@@ -58,6 +63,18 @@ public final class ServerFlag {
     public static final boolean REGISTRY_LATE_REGISTER = booleanProperty("minestom.registry.late-register");
     public static final boolean REGISTRY_UNSAFE_OPS = booleanProperty("minestom.registry.unsafe-ops");
     public static final boolean EVENT_NODE_ALLOW_MULTIPLE_PARENTS = booleanProperty("minestom.event.multiple-parents");
+    public static final @NotNull String TRANSPORT = stringProperty("minestom.transport", "selector"); // "selector" or "flush-list"
+    public static final @Nullable String ENTITY_UPDATE_BANDS = stringProperty("minestom.entity.update-bands"); // e.g. "16:1,48:2,96:4"
+    public static final int DISPATCHER_THREADS = intProperty("minestom.dispatcher.threads", 1);
+    public static final @NotNull String DISPATCHER_PROVIDER = stringProperty("minestom.dispatcher.provider", "counter"); // "counter", "balanced" or "regions"
+    public static final int DISPATCHER_REGION_SIZE = intProperty("minestom.dispatcher.region-size", 8); // In chunks
+    public static final int INSTANCE_TICK_THREADS = intProperty("minestom.instance.tick-threads", 0); // 0 to tick instances on the tick scheduler thread
+    public static final int SCHEDULER_VIRTUAL_CONCURRENCY = intProperty("minestom.scheduler.virtual-concurrency", 64); // Per scheduler
+    public static final @NotNull String TICK_WAIT_STRATEGY = stringProperty("minestom.tick.wait-strategy", "sleep"); // "sleep", "hybrid", "park" or "spin"
+    public static final long TICK_SPIN_WINDOW = longProperty("minestom.tick.spin-window", 1_000_000); // Nanoseconds spent spinning by the "hybrid" strategy
+    public static final long STATUS_CACHE_TTL = longProperty("minestom.status.cache-ttl", 0); // Milliseconds, 0 to disable
+    public static final float HANDSHAKE_RATE = floatProperty("minestom.handshake.rate", 0f); // Packets per second per address, 0 to disable
+    public static final int HANDSHAKE_BURST = intProperty("minestom.handshake.burst", 20);
 
     public static boolean INSIDE_TEST = booleanProperty("minestom.inside-test", false);
 
@@ -7,6 +7,7 @@ import net.minestom.server.event.GlobalEventHandler;
 import net.minestom.server.exception.ExceptionManager;
 import net.minestom.server.gamedata.tags.TagManager;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceManager;
 import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -23,6 +24,7 @@ import net.minestom.server.thread.ThreadDispatcher;
 import net.minestom.server.timer.SchedulerManager;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.SocketAddress;
 
@@ -116,6 +118,21 @@ public interface ServerProcess extends Registries, Snapshotable {
      */
     @NotNull ThreadDispatcher<Chunk> dispatcher();
 
+    /**
+     * Dispatcher ticking the registered instances in parallel, each instance being a partition.
+     * <p>
+     * All the instances are ticked before the chunks and entities of the {@link #dispatcher()}.
+     * Different instances are ticked concurrently in no particular order,
+     * a {@link net.minestom.server.instance.SharedInstance} is always ticked on the thread of its container.
+     * Instance events such as {@link net.minestom.server.event.instance.InstanceTickEvent} may therefore be called
+     * from multiple threads at once. The end of tick tasks of an instance scheduler still run at the end of its own tick.
+     *
+     * @return the instance dispatcher, null if instances are ticked one after another on the tick scheduler thread
+     * @see ServerFlag#INSTANCE_TICK_THREADS
+     */
+    @ApiStatus.Experimental
+    @Nullable ThreadDispatcher<Instance> instanceDispatcher();
+
     /**
      * Handles the server ticks.
      */
@@ -10,12 +10,15 @@ import net.minestom.server.entity.metadata.animal.tameable.WolfMeta;
 import net.minestom.server.entity.metadata.other.PaintingMeta;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.GlobalEventHandler;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.server.ServerTickMonitorEvent;
+import net.minestom.server.event.server.ServerTickProfileEvent;
 import net.minestom.server.exception.ExceptionManager;
 import net.minestom.server.gamedata.tags.TagManager;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceManager;
+import net.minestom.server.instance.SharedInstance;
 import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.instance.block.banner.BannerPattern;
 import net.minestom.server.instance.block.jukebox.JukeboxSong;
@@ -26,6 +29,7 @@ import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatType;
 import net.minestom.server.monitoring.BenchmarkManager;
 import net.minestom.server.monitoring.TickMonitor;
+import net.minestom.server.monitoring.TickProfiler;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.socket.Server;
@@ -35,6 +39,7 @@ import net.minestom.server.scoreboard.TeamManager;
 import net.minestom.server.snapshot.*;
 import net.minestom.server.thread.Acquirable;
 import net.minestom.server.thread.ThreadDispatcher;
+import net.minestom.server.thread.ThreadProvider;
 import net.minestom.server.timer.SchedulerManager;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.collection.MappedCollection;
@@ -42,6 +47,7 @@ import net.minestom.server.utils.nbt.BinaryTagSerializer;
 import net.minestom.server.world.DimensionType;
 import net.minestom.server.world.biome.Biome;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -92,12 +98,17 @@ final class ServerProcessImpl implements ServerProcess {
     private final Server server;
 
     private final ThreadDispatcher<Chunk> dispatcher;
+    private final ThreadDispatcher<Instance> instanceDispatcher;
     private final Ticker ticker;
 
     private final AtomicBoolean started = new AtomicBoolean();
     private final AtomicBoolean stopped = new AtomicBoolean();
 
     public ServerProcessImpl() throws IOException {
+        this(ServerFlag.INSTANCE_TICK_THREADS);
+    }
+
+    ServerProcessImpl(int instanceTickThreads) throws IOException {
         this.exception = new ExceptionManager();
 
         // The order of initialization here is relevant, we must load the enchantment util registries before the vanilla data is loaded.
@@ -119,24 +130,29 @@ final class ServerProcessImpl implements ServerProcess {
         this.paintingVariant = PaintingMeta.Variant.createDefaultRegistry();
         this.jukeboxSong = JukeboxSong.createDefaultRegistry();
 
-        this.connection = new ConnectionManager();
+        this.benchmark = new BenchmarkManager();
+        this.connection = new ConnectionManager(benchmark.getTickProfiler());
         this.packetListener = new PacketListenerManager();
         this.packetProcessor = new PacketProcessor(packetListener);
-        this.instance = new InstanceManager(this);
+        this.instance = new InstanceManager(this, benchmark.getTickProfiler());
         this.block = new BlockManager();
         this.command = new CommandManager();
         this.recipe = new RecipeManager();
         this.team = new TeamManager();
         this.eventHandler = new GlobalEventHandler();
         this.scheduler = new SchedulerManager();
-        this.benchmark = new BenchmarkManager();
         this.advancement = new AdvancementManager();
         this.bossBar = new BossBarManager();
         this.tag = new TagManager();
 
         this.server = new Server(packetProcessor);
 
-        this.dispatcher = ThreadDispatcher.singleThread();
+        this.dispatcher = ThreadDispatcher.of(ThreadProvider.fromFlags(), ServerFlag.DISPATCHER_THREADS);
+        this.instanceDispatcher = instanceTickThreads > 0 ?
+                ThreadDispatcher.of(instanceProvider(), index -> MinecraftServer.THREAD_NAME_INSTANCE_TICK + "-" + index,
+                        instanceTickThreads) : null;
+        this.dispatcher.threads().forEach(benchmark.getTickProfiler()::registerThread);
+        if (instanceDispatcher != null) instanceDispatcher.threads().forEach(benchmark.getTickProfiler()::registerThread);
         this.ticker = new TickerImpl();
     }
 
@@ -300,6 +316,11 @@ final class ServerProcessImpl implements ServerProcess {
         return dispatcher;
     }
 
+    @Override
+    public @Nullable ThreadDispatcher<Instance> instanceDispatcher() {
+        return instanceDispatcher;
+    }
+
     @Override
     public @NotNull Ticker ticker() {
         return ticker;
@@ -341,6 +362,7 @@ final class ServerProcessImpl implements ServerProcess {
         LOGGER.info("Shutting down all thread pools.");
         benchmark.disable();
         dispatcher.shutdown();
+        if (instanceDispatcher != null) instanceDispatcher.shutdown();
         LOGGER.info(MinecraftServer.getBrandName() + " server stopped successfully.");
     }
 
@@ -362,51 +384,98 @@ final class ServerProcessImpl implements ServerProcess {
         return new SnapshotImpl.Server(MappedCollection.plainReferences(instanceRefs), entityRefs);
     }
 
+    private static ThreadProvider<Instance> instanceProvider() {
+        return new ThreadProvider<>() {
+            @Override
+            public int findThread(@NotNull Instance instance) {
+                // Shared instances are kept with their container, both are ticked one after the other
+                final Instance owner = instance instanceof SharedInstance shared ? shared.getInstanceContainer() : instance;
+                return System.identityHashCode(owner);
+            }
+
+            @Override
+            public @NotNull RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        };
+    }
+
     private final class TickerImpl implements Ticker {
+        private final TickProfiler profiler = benchmark().getTickProfiler();
+        private final ListenerHandle<ServerTickProfileEvent> profileHandle = eventHandler().getHandle(ServerTickProfileEvent.class);
+
         @Override
         public void tick(long nanoTime) {
             final long msTime = System.currentTimeMillis();
+            long phaseStart = nanoTime;
 
             scheduler().processTick();
+            phaseStart = endPhase(TickProfiler.Phase.SCHEDULER, phaseStart);
 
             // Connection tick (let waiting clients in, send keep alives, handle configuration players packets)
             connection().tick(msTime);
+            phaseStart = endPhase(TickProfiler.Phase.CONNECTION, phaseStart);
 
             // Server tick (chunks/entities)
-            serverTick(msTime);
+            serverTick(msTime, phaseStart);
+            phaseStart = System.nanoTime();
 
             scheduler().processTickEnd();
+            phaseStart = endPhase(TickProfiler.Phase.SCHEDULER_END, phaseStart);
 
             // Flush all waiting packets
             PacketUtils.flush();
+            phaseStart = endPhase(TickProfiler.Phase.FLUSH, phaseStart);
 
             // Server connection tick
             server().tick();
+            endPhase(TickProfiler.Phase.SERVER, phaseStart);
 
             // Monitoring
             {
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
-                final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
+                final long crossThreadAcquisitions = Acquirable.resetCrossThreadAcquisitions();
+                final long tickTime = System.nanoTime() - nanoTime;
+                profiler.record(TickProfiler.Phase.TOTAL, tickTime);
+                final TickMonitor tickMonitor = new TickMonitor(tickTime / 1e6D, acquisitionTimeMs, crossThreadAcquisitions);
                 EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
+                if (profileHandle.hasListener()) {
+                    profileHandle.call(new ServerTickProfileEvent(profiler, profiler.lastTick()));
+                }
             }
         }
 
-        private void serverTick(long tickStart) {
-            // Tick all instances
-            for (Instance instance : instance().getInstances()) {
-                try {
-                    instance.tick(tickStart);
-                } catch (Exception e) {
-                    exception().handleException(e);
+        private void serverTick(long tickStart, long phaseStart) {
+            // Tick all instances, all of them are ticked before the chunks
+            final ThreadDispatcher<Instance> instanceDispatcher = instanceDispatcher();
+            if (instanceDispatcher != null) {
+                instanceDispatcher.updateAndAwait(tickStart);
+            } else {
+                for (Instance instance : instance().getInstances()) {
+                    try {
+                        instance.tick(tickStart);
+                    } catch (Exception e) {
+                        exception().handleException(e);
+                    }
                 }
             }
+            phaseStart = endPhase(TickProfiler.Phase.INSTANCES, phaseStart);
+
             // Tick all chunks (and entities inside)
             dispatcher().updateAndAwait(tickStart);
+            phaseStart = endPhase(TickProfiler.Phase.DISPATCHER, phaseStart);
 
             // Clear removed entities & update threads
             final long tickTime = System.currentTimeMillis() - tickStart;
             dispatcher().refreshThreads(tickTime);
+            if (instanceDispatcher != null) instanceDispatcher.refreshThreads(tickTime);
+            endPhase(TickProfiler.Phase.REFRESH_THREADS, phaseStart);
+        }
+
+        private long endPhase(TickProfiler.Phase phase, long phaseStart) {
+            final long now = System.nanoTime();
+            profiler.record(phase, now - phaseStart);
+            return now;
         }
     }
 }
@@ -28,6 +28,7 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.permission.Permission;
 import net.minestom.server.permission.PermissionHandler;
@@ -157,6 +158,10 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     // Network synchronization, send the absolute position of the entity every n ticks
     private long synchronizationTicks = ServerFlag.ENTITY_SYNCHRONIZATION_TICKS;
     private long nextSynchronizationTick = synchronizationTicks;
+    // Movement coalescing, viewers receive at most one movement packet per tick
+    private boolean movementPending;
+    private boolean viewSynchronized;
+    private EntityUpdateBands.Tracker updateBands;
 
     protected MetadataHolder metadata = new MetadataHolder(this);
     protected EntityMeta entityMeta;
@@ -558,6 +563,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         if (vehicle == null && ticks >= nextSynchronizationTick) {
             synchronizePosition();
             sendPacketToViewers(getVelocityPacket());
+        } else if (movementPending) {
+            synchronizeMovement();
         }
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
@@ -769,6 +776,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.isActive = true;
         this.position = spawnPosition;
         this.previousPosition = spawnPosition;
+        this.viewSynchronized = false;
+        this.updateBands = null;
         this.previousPhysicsResult = null;
         this.instance = instance;
         return instance.loadOptionalChunk(spawnPosition).thenAccept(chunk -> {
@@ -1208,7 +1217,9 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     }
 
     /**
-     * Updates internal fields and sends updates.
+     * Updates internal fields and schedules the viewers update.
+     * <p>
+     * Viewers are updated once at the end of the entity tick, whatever the number of calls.
      *
      * @param newPosition the new position
      */
@@ -1216,43 +1227,11 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     public void refreshPosition(@NotNull final Pos newPosition, boolean ignoreView, boolean sendPackets) {
         final var previousPosition = this.position;
         final Pos position = ignoreView ? previousPosition.withCoord(newPosition) : newPosition;
-        if (position.equals(lastSyncedPosition)) return;
+        if (position.equals(previousPosition)) return;
         this.position = position;
         this.previousPosition = previousPosition;
         if (!position.samePoint(previousPosition)) refreshCoordinate(position);
-        if (nextSynchronizationTick <= ticks + 1 || !sendPackets) {
-            // The entity will be synchronized at the end of its tick
-            // not returning here will duplicate position packets
-            return;
-        }
-        // Update viewers
-        final boolean viewChange = !position.sameView(lastSyncedPosition);
-        final double distanceX = Math.abs(position.x() - lastSyncedPosition.x());
-        final double distanceY = Math.abs(position.y() - lastSyncedPosition.y());
-        final double distanceZ = Math.abs(position.z() - lastSyncedPosition.z());
-        final boolean positionChange = (distanceX + distanceY + distanceZ) > 0;
-
-        final Chunk chunk = getChunk();
-        assert chunk != null;
-        if (distanceX > 8 || distanceY > 8 || distanceZ > 8) {
-            PacketUtils.prepareViewablePacket(chunk, new EntityTeleportPacket(getEntityId(), position, isOnGround()), this);
-            nextSynchronizationTick = synchronizationTicks + 1;
-        } else if (positionChange && viewChange) {
-            PacketUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, isOnGround()), this);
-            // Fix head rotation
-            PacketUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()), this);
-        } else if (positionChange) {
-            // This is a confusing fix for a confusing issue. If rotation is only sent when the entity actually changes, then spawning an entity
-            // on the ground causes the entity not to update its rotation correctly. It works fine if the entity is spawned in the air. Very weird.
-            PacketUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, onGround), this);
-        } else if (viewChange) {
-            PacketUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()), this);
-            PacketUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, isOnGround()), this);
-        }
-        this.lastSyncedPosition = position;
+        if (sendPackets) this.movementPending = true;
     }
 
     @ApiStatus.Internal
@@ -1531,6 +1510,69 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
         nextSynchronizationTick = ticks + synchronizationTicks;
         this.lastSyncedPosition = posCache;
+        this.movementPending = false;
+        this.viewSynchronized = true;
+        if (updateBands != null) updateBands.reset(posCache);
+    }
+
+    /**
+     * Sends the movement since the last synchronization to viewers as a single packet,
+     * relative when possible and absolute when the entity moved too far.
+     */
+    private void synchronizeMovement() {
+        this.movementPending = false;
+        final Chunk chunk = this.currentChunk;
+        if (chunk == null) return;
+        final Pos position = this.position;
+        final List<ServerPacket> packets = movementPackets(position, lastSyncedPosition, !viewSynchronized);
+        if (EntityUpdateBands.isEnabled()) {
+            EntityUpdateBands.Tracker updateBands = this.updateBands;
+            if (updateBands == null) this.updateBands = updateBands = new EntityUpdateBands.Tracker(lastSyncedPosition);
+            // Distant bands may still be waiting for their update
+            this.movementPending = updateBands.synchronize(this, position, packets);
+        } else {
+            for (ServerPacket packet : packets) PacketUtils.prepareViewablePacket(chunk, packet, this);
+        }
+        if (!packets.isEmpty()) {
+            final ServerPacket packet = packets.get(0);
+            if (packet instanceof EntityTeleportPacket) nextSynchronizationTick = ticks + synchronizationTicks;
+            if (!(packet instanceof EntityPositionPacket)) this.viewSynchronized = true;
+        }
+        this.lastSyncedPosition = position;
+    }
+
+    /**
+     * Gets the packets moving the entity from {@code lastSyncedPosition} to {@code position}.
+     *
+     * @param forceView true to send the rotation even if unchanged
+     * @return the movement packets, empty if the entity did not move
+     */
+    @NotNull List<ServerPacket> movementPackets(@NotNull Pos position, @NotNull Pos lastSyncedPosition, boolean forceView) {
+        final boolean viewChange = !position.sameView(lastSyncedPosition);
+        final boolean yawChange = position.yaw() != lastSyncedPosition.yaw();
+        final double distanceX = Math.abs(position.x() - lastSyncedPosition.x());
+        final double distanceY = Math.abs(position.y() - lastSyncedPosition.y());
+        final double distanceZ = Math.abs(position.z() - lastSyncedPosition.z());
+        final boolean positionChange = (distanceX + distanceY + distanceZ) > 0;
+
+        final int entityId = getEntityId();
+        final ServerPacket packet;
+        if (distanceX > 8 || distanceY > 8 || distanceZ > 8) {
+            packet = new EntityTeleportPacket(entityId, position, isOnGround());
+        } else if (positionChange && (viewChange || forceView)) {
+            // This is a confusing fix for a confusing issue. If rotation is only sent when the entity actually changes, then spawning an entity
+            // on the ground causes the entity not to update its rotation correctly. It works fine if the entity is spawned in the air. Very weird.
+            // The rotation is therefore sent along the position until it has been synchronized once.
+            packet = EntityPositionAndRotationPacket.getPacket(entityId, position, lastSyncedPosition, isOnGround());
+        } else if (positionChange) {
+            packet = EntityPositionPacket.getPacket(entityId, position, lastSyncedPosition, isOnGround());
+        } else if (viewChange) {
+            packet = new EntityRotationPacket(entityId, position.yaw(), position.pitch(), isOnGround());
+        } else {
+            return List.of();
+        }
+        // Fix head rotation
+        return yawChange ? List.of(packet, new EntityHeadLookPacket(entityId, position.yaw())) : List.of(packet);
     }
 
     private void synchronizeView() {
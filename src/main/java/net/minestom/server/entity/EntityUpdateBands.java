@@ -0,0 +1,287 @@
+package net.minestom.server.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.Utils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distance bands reducing the movement update rate of distant entity viewers.
+ * <p>
+ * Bands are configured with the {@code minestom.entity.update-bands} system property as a list of
+ * {@code distance:interval} pairs, e.g. {@code 16:1,48:2,96:4}. A viewer belongs to the first band whose distance
+ * is greater or equal to its distance to the entity, or to the last band if none, and receives the entity movement
+ * every {@code interval} ticks. Viewers changing band are sent the absolute position of the entity.
+ * <p>
+ * Bands are disabled when the property is not set, movement is then sent to all viewers at full rate.
+ */
+@ApiStatus.Experimental
+public final class EntityUpdateBands {
+    private static final Band[] BANDS = parse(ServerFlag.ENTITY_UPDATE_BANDS);
+    private static final Counters COUNTERS = new Counters(BANDS.length);
+
+    private EntityUpdateBands() {
+    }
+
+    public static boolean isEnabled() {
+        return BANDS.length > 0;
+    }
+
+    public static @NotNull List<@NotNull Band> bands() {
+        return List.of(BANDS);
+    }
+
+    /**
+     * Gets the movement bytes sent to the viewers of each band, compared to the bytes they would have received
+     * without bands.
+     *
+     * @return the statistics of each band, in the same order as {@link #bands()}
+     */
+    public static @NotNull List<@NotNull Statistics> statistics() {
+        List<Statistics> statistics = new ArrayList<>(BANDS.length);
+        for (int i = 0; i < BANDS.length; i++) {
+            statistics.add(new Statistics(BANDS[i], COUNTERS.updates[i].sum(), COUNTERS.sentBytes[i].sum(),
+                    COUNTERS.fullRateBytes[i].sum()));
+        }
+        return statistics;
+    }
+
+    public static void resetStatistics() {
+        for (int i = 0; i < BANDS.length; i++) {
+            COUNTERS.updates[i].reset();
+            COUNTERS.sentBytes[i].reset();
+            COUNTERS.fullRateBytes[i].reset();
+        }
+    }
+
+    public record Band(double distance, int interval) {
+        public Band {
+            if (distance < 0) throw new IllegalArgumentException("Distance must be positive: " + distance);
+            if (interval < 1) throw new IllegalArgumentException("Interval must be at least 1: " + interval);
+        }
+    }
+
+    /**
+     * @param band          the band
+     * @param updates       the number of movement updates sent to the band viewers
+     * @param sentBytes     the size of the movement packets sent to the band viewers
+     * @param fullRateBytes the size of the movement packets the band viewers would have received every tick
+     */
+    public record Statistics(@NotNull Band band, long updates, long sentBytes, long fullRateBytes) {
+        public long savedBytes() {
+            return fullRateBytes - sentBytes;
+        }
+    }
+
+    static Band[] parse(@Nullable String value) {
+        if (value == null || value.isBlank()) return new Band[0];
+        final String[] entries = value.split(",");
+        Band[] bands = new Band[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            final String[] pair = entries[i].trim().split(":");
+            if (pair.length != 2) throw new IllegalArgumentException("Invalid band (distance:interval): " + entries[i]);
+            bands[i] = new Band(Double.parseDouble(pair[0]), Integer.parseInt(pair[1]));
+        }
+        Arrays.sort(bands, Comparator.comparingDouble(Band::distance));
+        return bands;
+    }
+
+    static int band(Band[] bands, double distanceSquared) {
+        for (int i = 0; i < bands.length - 1; i++) {
+            final double distance = bands[i].distance();
+            if (distanceSquared <= distance * distance) return i;
+        }
+        return bands.length - 1;
+    }
+
+    /**
+     * Gets the size of movement packets, without framing.
+     */
+    static int size(List<ServerPacket> packets) {
+        int size = 0;
+        for (ServerPacket packet : packets) {
+            size += switch (packet) {
+                case EntityPositionPacket p -> Utils.getVarIntSize(p.entityId()) + 7;
+                case EntityPositionAndRotationPacket p -> Utils.getVarIntSize(p.entityId()) + 9;
+                case EntityRotationPacket p -> Utils.getVarIntSize(p.entityId()) + 3;
+                case EntityHeadLookPacket p -> Utils.getVarIntSize(p.entityId()) + 1;
+                case EntityTeleportPacket p -> Utils.getVarIntSize(p.entityId()) + 27;
+                default -> 0;
+            } + 1; // Packet id
+        }
+        return size;
+    }
+
+    /**
+     * Counters of the movement sent to each band.
+     */
+    static final class Counters {
+        final LongAdder[] updates, sentBytes, fullRateBytes;
+
+        Counters(int bands) {
+            this.updates = adders(bands);
+            this.sentBytes = adders(bands);
+            this.fullRateBytes = adders(bands);
+        }
+
+        private static LongAdder[] adders(int length) {
+            LongAdder[] adders = new LongAdder[length];
+            for (int i = 0; i < adders.length; i++) adders[i] = new LongAdder();
+            return adders;
+        }
+    }
+
+    /**
+     * Movement state of an entity for each band, only accessed from the entity tick.
+     */
+    static final class Tracker {
+        private final Band[] bands;
+        private final Counters counters;
+        private final Pos[] lastSynced;
+        // Viewers of each band at the last refresh, reused across ticks
+        private final List<Player>[] members;
+        private final List<Player> absolute = new ArrayList<>(), relative = new ArrayList<>();
+        private int viewerCount;
+        // Viewer id -> band in the low byte, refresh stamp in the upper bytes
+        private final Int2IntOpenHashMap viewerBands = new Int2IntOpenHashMap();
+        // Viewers whose client position is unknown, sent an absolute position on their next band update
+        private final IntSet resync = new IntOpenHashSet();
+        private int stamp;
+
+        Tracker(@NotNull Pos position) {
+            this(BANDS, COUNTERS, position);
+        }
+
+        @SuppressWarnings("unchecked")
+        Tracker(@NotNull Band[] bands, @NotNull Counters counters, @NotNull Pos position) {
+            this.bands = bands;
+            this.counters = counters;
+            this.lastSynced = new Pos[bands.length];
+            this.members = new List[bands.length];
+            for (int i = 0; i < bands.length; i++) members[i] = new ArrayList<>();
+            Arrays.fill(lastSynced, position);
+            this.viewerBands.defaultReturnValue(-1);
+        }
+
+        /**
+         * Called once all viewers received the absolute position of the entity.
+         */
+        void reset(@NotNull Pos position) {
+            Arrays.fill(lastSynced, position);
+            this.resync.clear();
+        }
+
+        boolean synchronize(@NotNull Entity entity, @NotNull Pos position, @NotNull List<ServerPacket> fullRatePackets) {
+            return synchronize(entity, entity.getAliveTicks() + entity.getEntityId(), position, fullRatePackets);
+        }
+
+        /**
+         * Sends the movement of the entity to the viewers of the bands updated this tick.
+         *
+         * @param entity          the moving entity
+         * @param tick            the tick deciding which bands are updated
+         * @param position        the entity position
+         * @param fullRatePackets the packets that all viewers would receive without bands
+         * @return true if some bands are still to be updated
+         */
+        boolean synchronize(@NotNull Entity entity, long tick, @NotNull Pos position, @NotNull List<ServerPacket> fullRatePackets) {
+            final Band[] bands = this.bands;
+            final int fullRateSize = size(fullRatePackets);
+            boolean due = false;
+            for (Band band : bands) due |= tick % band.interval() == 0;
+            // Viewers keep their band until the next tick updating one
+            if (due) refresh(entity, position);
+            final List<Player>[] members = this.members;
+            boolean pending = false;
+            for (int i = 0; i < bands.length; i++) {
+                if (fullRateSize > 0) counters.fullRateBytes[i].add((long) fullRateSize * members[i].size());
+                if (tick % bands[i].interval() != 0) {
+                    pending |= !lastSynced[i].equals(position);
+                    continue;
+                }
+                // Send the movement since the previous update of the band
+                final List<Player> players = members[i];
+                if (!players.isEmpty()) update(entity, i, position, players);
+                this.lastSynced[i] = position;
+            }
+            return pending;
+        }
+
+        /**
+         * Refreshes the band of each viewer, marking the viewers whose band changed for resynchronization.
+         */
+        private void refresh(Entity entity, Pos position) {
+            final Band[] bands = this.bands;
+            final List<Player>[] members = this.members;
+            for (List<Player> players : members) players.clear();
+            final Int2IntOpenHashMap viewerBands = this.viewerBands;
+            final int previousStamp = this.stamp << 8;
+            this.stamp = (this.stamp + 1) & 0xFFFFFF;
+            final int stamp = this.stamp << 8;
+            int count = 0;
+            for (Player viewer : entity.getViewers()) {
+                final int id = viewer.getEntityId();
+                final int band = band(bands, viewer.getPosition().distanceSquared(position));
+                final int previous = viewerBands.put(id, stamp | band);
+                // Only trust the band of viewers present at the previous refresh
+                if (previous != (previousStamp | band)) resync.add(id);
+                members[band].add(viewer);
+                count++;
+            }
+            this.viewerCount = count;
+            if (viewerBands.size() > count) {
+                // Forget the viewers which left
+                viewerBands.values().removeIf(value -> (value & ~0xFF) != stamp);
+                resync.removeIf(id -> !viewerBands.containsKey(id));
+            }
+        }
+
+        private void update(Entity entity, int band, Pos position, List<Player> players) {
+            List<Player> relative = players;
+            if (!resync.isEmpty()) {
+                final List<Player> absolute = this.absolute;
+                relative = this.relative;
+                for (Player player : players) {
+                    (resync.remove(player.getEntityId()) ? absolute : relative).add(player);
+                }
+                if (!absolute.isEmpty()) {
+                    send(entity, band, absolute, List.of(new EntityTeleportPacket(entity.getEntityId(), position, entity.isOnGround()),
+                            new EntityHeadLookPacket(entity.getEntityId(), position.yaw())));
+                    absolute.clear();
+                }
+            }
+            if (!relative.isEmpty()) {
+                send(entity, band, relative, entity.movementPackets(position, lastSynced[band], false));
+            }
+            if (relative != players) relative.clear();
+        }
+
+        private void send(Entity entity, int band, List<Player> players, List<ServerPacket> packets) {
+            if (packets.isEmpty()) return;
+            final Chunk chunk = entity.getChunk();
+            if (chunk != null && players.size() == viewerCount) {
+                // All viewers receive the same packets, batch them with the other chunk packets
+                for (ServerPacket packet : packets) PacketUtils.prepareViewablePacket(chunk, packet, entity);
+            } else {
+                for (ServerPacket packet : packets) PacketUtils.sendGroupedPacket(players, packet);
+            }
+            counters.updates[band].add(players.size());
+            counters.sentBytes[band].add((long) size(packets) * players.size());
+        }
+    }
+}
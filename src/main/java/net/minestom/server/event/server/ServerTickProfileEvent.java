@@ -0,0 +1,37 @@
+package net.minestom.server.event.server;
+
+import net.minestom.server.event.Event;
+import net.minestom.server.monitoring.TickProfiler;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called at the end of each server tick with the duration of its phases.
+ */
+public final class ServerTickProfileEvent implements Event {
+    private final TickProfiler profiler;
+    private final long[] durations;
+
+    public ServerTickProfileEvent(@NotNull TickProfiler profiler, long @NotNull [] durations) {
+        this.profiler = profiler;
+        this.durations = durations;
+    }
+
+    /**
+     * Gets the profiler, holding the histograms of all the previous ticks.
+     *
+     * @return the tick profiler
+     */
+    public @NotNull TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the duration of a phase during this tick.
+     *
+     * @param phase the tick phase
+     * @return the phase duration in nanoseconds
+     */
+    public long getDuration(@NotNull TickProfiler.Phase phase) {
+        return durations[phase.ordinal()];
+    }
+}
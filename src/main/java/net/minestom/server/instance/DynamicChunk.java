@@ -28,6 +28,7 @@ import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
 import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -44,6 +45,7 @@ import static net.minestom.server.utils.chunk.ChunkUtils.toSectionRelativeCoordi
  */
 public class DynamicChunk extends Chunk {
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamicChunk.class);
+    private static final CachedPacket.Statistics CHUNK_PACKET_STATISTICS = new CachedPacket.Statistics();
 
     protected List<Section> sections;
 
@@ -57,7 +59,7 @@ public class DynamicChunk extends Chunk {
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
 
     private long lastChange;
-    final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
+    final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket, CHUNK_PACKET_STATISTICS);
     private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
 
     public DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
@@ -244,6 +246,7 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        invalidate();
     }
 
     @Override
@@ -251,6 +254,19 @@ public class DynamicChunk extends Chunk {
         this.chunkCache.invalidate();
     }
 
+    /**
+     * Gets the hit/miss counters of the framed chunk packets cache, shared by all the dynamic chunks.
+     * <p>
+     * A miss means that the chunk data has been serialized and compressed, a hit that a connection
+     * received the already framed buffer.
+     *
+     * @return the chunk packet cache statistics
+     */
+    @ApiStatus.Experimental
+    public static @NotNull CachedPacket.Statistics chunkPacketStatistics() {
+        return CHUNK_PACKET_STATISTICS;
+    }
+
     private @NotNull ChunkDataPacket createChunkPacket() {
         final byte[] data;
         final CompoundBinaryTag heightmapsNBT;
@@ -25,6 +25,7 @@ import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.generator.Generator;
 import net.minestom.server.instance.light.Light;
+import net.minestom.server.monitoring.TickProfiler;
 import net.minestom.server.network.packet.server.play.BlockActionPacket;
 import net.minestom.server.network.packet.server.play.InitializeWorldBorderPacket;
 import net.minestom.server.network.packet.server.play.TimeUpdatePacket;
@@ -67,6 +68,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         Tickable, Schedulable, Snapshotable, EventHandler<InstanceEvent>, Taggable, PacketGroupingAudience {
 
     private boolean registered;
+    // Profiler of the process the instance is registered in
+    private volatile @Nullable TickProfiler tickProfiler;
 
     private final DynamicRegistry.Key<DimensionType> dimensionType;
     private final DimensionType cachedDimensionType; // Cached to prevent self-destruction if the registry is changed, and to avoid the lookups.
@@ -400,6 +403,10 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         this.registered = registered;
     }
 
+    void setTickProfiler(@Nullable TickProfiler tickProfiler) {
+        this.tickProfiler = tickProfiler;
+    }
+
     /**
      * Gets the instance {@link DimensionType}.
      *
@@ -753,6 +760,7 @@ public abstract class Instance implements Block.Getter, Block.Setter,
      */
     @Override
     public void tick(long time) {
+        final long start = System.nanoTime();
         // Scheduled tasks
         this.scheduler.processTick();
         // Time
@@ -788,6 +796,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         }
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
+        final TickProfiler tickProfiler = this.tickProfiler;
+        if (tickProfiler != null) tickProfiler.recordInstance(this, System.nanoTime() - start);
     }
 
     /**
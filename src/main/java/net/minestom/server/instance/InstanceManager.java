@@ -5,6 +5,7 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.instance.InstanceRegisterEvent;
 import net.minestom.server.event.instance.InstanceUnregisterEvent;
+import net.minestom.server.monitoring.TickProfiler;
 import net.minestom.server.registry.DynamicRegistry;
 import net.minestom.server.registry.Registries;
 import net.minestom.server.utils.validate.Check;
@@ -25,10 +26,21 @@ import java.util.concurrent.CopyOnWriteArraySet;
 public final class InstanceManager {
 
     private final Registries registries;
+    private final @Nullable TickProfiler tickProfiler;
     private final Set<Instance> instances = new CopyOnWriteArraySet<>();
 
     public InstanceManager(@NotNull Registries registries) {
+        this(registries, null);
+    }
+
+    /**
+     * @param registries   the registries used to create the instances
+     * @param tickProfiler the profiler receiving the tick durations of the registered instances
+     */
+    @ApiStatus.Internal
+    public InstanceManager(@NotNull Registries registries, @Nullable TickProfiler tickProfiler) {
         this.registries = registries;
+        this.tickProfiler = tickProfiler;
     }
 
     /**
@@ -130,8 +142,11 @@ public final class InstanceManager {
                 var dispatcher = MinecraftServer.process().dispatcher();
                 instance.getChunks().forEach(dispatcher::deletePartition);
             }
+            var instanceDispatcher = MinecraftServer.process().instanceDispatcher();
+            if (instanceDispatcher != null) instanceDispatcher.deletePartition(instance);
             // Unregister
             instance.setRegistered(false);
+            instance.setTickProfiler(null);
             this.instances.remove(instance);
         }
     }
@@ -168,9 +183,12 @@ public final class InstanceManager {
      */
     private void UNSAFE_registerInstance(@NotNull Instance instance) {
         instance.setRegistered(true);
+        instance.setTickProfiler(tickProfiler);
         this.instances.add(instance);
         var dispatcher = MinecraftServer.process().dispatcher();
         instance.getChunks().forEach(dispatcher::createPartition);
+        var instanceDispatcher = MinecraftServer.process().instanceDispatcher();
+        if (instanceDispatcher != null) instanceDispatcher.createPartition(instance);
         InstanceRegisterEvent event = new InstanceRegisterEvent(instance);
         EventDispatcher.call(event);
     }
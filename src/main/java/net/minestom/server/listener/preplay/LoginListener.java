@@ -6,6 +6,7 @@ import com.google.gson.JsonObject;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.Player;
 import net.minestom.server.extras.MojangAuth;
 import net.minestom.server.extras.bungee.BungeeCordProxy;
@@ -26,8 +27,10 @@ import net.minestom.server.network.plugin.LoginPluginMessageProcessor;
 import net.minestom.server.network.plugin.LoginPluginResponse;
 import net.minestom.server.utils.async.AsyncUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.crypto.SecretKey;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.net.*;
 import java.net.http.HttpClient;
@@ -91,7 +94,7 @@ public final class LoginListener {
                     connection.sendPacket(new LoginDisconnectPacket(Component.text(exception.getClass().getSimpleName() + ": " + exception.getMessage())));
                     connection.disconnect();
                 }
-            });
+            }, CONNECTION_MANAGER.loginExecutor());
         }
     }
 
@@ -128,43 +131,65 @@ public final class LoginListener {
             final String url = String.format(MojangAuth.AUTH_URL, username, serverId);
             // TODO: Add ability to add ip query tag. See: https://wiki.vg/Protocol_Encryption#Authentication
 
-            final HttpClient client = HttpClient.newHttpClient();
             final HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
-            client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, throwable) -> {
-                final boolean ok = throwable == null && response.statusCode() == 200 && response.body() != null && !response.body().isEmpty();
-
-                if (!ok) {
-                    if (throwable != null) {
-                        MinecraftServer.getExceptionManager().handleException(throwable);
-                    }
-
-                    if (socketConnection.getPlayer() != null) {
-                        socketConnection.getPlayer().kick(Component.text("Failed to contact Mojang's Session Servers (Are they down?)"));
-                    } else {
-                        socketConnection.disconnect();
-                    }
-                    return;
-                }
-                try {
-                    final JsonObject gameProfile = GSON.fromJson(response.body(), JsonObject.class);
-                    socketConnection.setEncryptionKey(getSecretKey(packet.sharedSecret()));
-                    UUID profileUUID = java.util.UUID.fromString(gameProfile.get("id").getAsString()
-                            .replaceFirst("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})", "$1-$2-$3-$4-$5"));
-                    final String profileName = gameProfile.get("name").getAsString();
-
-                    MinecraftServer.LOGGER.info("UUID of player {} is {}", loginUsername, profileUUID);
-                    CONNECTION_MANAGER.createPlayer(connection, profileUUID, profileName);
-                    List<GameProfile.Property> propertyList = new ArrayList<>();
-                    for (JsonElement element : gameProfile.get("properties").getAsJsonArray()) {
-                        JsonObject object = element.getAsJsonObject();
-                        propertyList.add(new GameProfile.Property(object.get("name").getAsString(), object.get("value").getAsString(), object.get("signature").getAsString()));
-                    }
-                    socketConnection.UNSAFE_setProfile(new GameProfile(profileUUID, profileName, propertyList));
-                } catch (Exception e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-            });
-        });
+            if (!ServerFlag.LOGIN_VIRTUAL_THREADS) {
+                // The login executor is shared, do not hold its threads during the lookup
+                SessionClient.CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, throwable) -> {
+                    if (throwable != null) MinecraftServer.getExceptionManager().handleException(throwable);
+                    handleSessionResponse(socketConnection, packet, loginUsername, response);
+                });
+                return;
+            }
+            // Blocking on a virtual thread, the login executor bounds the number of concurrent lookups
+            HttpResponse<String> response;
+            try {
+                response = SessionClient.CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                response = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                socketConnection.disconnect();
+                return;
+            }
+            handleSessionResponse(socketConnection, packet, loginUsername, response);
+        }, CONNECTION_MANAGER.loginExecutor());
+    }
+
+    private static void handleSessionResponse(PlayerSocketConnection socketConnection, ClientEncryptionResponsePacket packet,
+                                              String loginUsername, @Nullable HttpResponse<String> response) {
+        final boolean ok = response != null && response.statusCode() == 200 && response.body() != null && !response.body().isEmpty();
+        if (!ok) {
+            if (socketConnection.getPlayer() != null) {
+                socketConnection.getPlayer().kick(Component.text("Failed to contact Mojang's Session Servers (Are they down?)"));
+            } else {
+                socketConnection.disconnect();
+            }
+            return;
+        }
+        try {
+            final JsonObject gameProfile = GSON.fromJson(response.body(), JsonObject.class);
+            socketConnection.setEncryptionKey(getSecretKey(packet.sharedSecret()));
+            UUID profileUUID = java.util.UUID.fromString(gameProfile.get("id").getAsString()
+                    .replaceFirst("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})", "$1-$2-$3-$4-$5"));
+            final String profileName = gameProfile.get("name").getAsString();
+
+            MinecraftServer.LOGGER.info("UUID of player {} is {}", loginUsername, profileUUID);
+            CONNECTION_MANAGER.createPlayer(socketConnection, profileUUID, profileName);
+            List<GameProfile.Property> propertyList = new ArrayList<>();
+            for (JsonElement element : gameProfile.get("properties").getAsJsonArray()) {
+                JsonObject object = element.getAsJsonObject();
+                propertyList.add(new GameProfile.Property(object.get("name").getAsString(), object.get("value").getAsString(), object.get("signature").getAsString()));
+            }
+            socketConnection.UNSAFE_setProfile(new GameProfile(profileUUID, profileName, propertyList));
+        } catch (Exception e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    private static final class SessionClient {
+        // Shared by all the logins, only created if online mode is used
+        static final HttpClient CLIENT = HttpClient.newHttpClient();
     }
 
     private static SecretKey getSecretKey(byte[] sharedSecret) {
@@ -6,19 +6,29 @@ import net.minestom.server.event.server.ClientPingServerEvent;
 import net.minestom.server.event.server.ServerListPingEvent;
 import net.minestom.server.network.packet.client.common.ClientPingRequestPacket;
 import net.minestom.server.network.packet.client.status.StatusRequestPacket;
+import net.minestom.server.network.packet.server.FramedPacket;
 import net.minestom.server.network.packet.server.common.PingResponsePacket;
 import net.minestom.server.network.packet.server.status.ResponsePacket;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.ping.ServerListPingType;
+import net.minestom.server.ping.StatusResponseCache;
 import org.jetbrains.annotations.NotNull;
 
 public final class StatusListener {
 
     public static void requestListener(@NotNull StatusRequestPacket packet, @NotNull PlayerConnection connection) {
         final ServerListPingType pingVersion = ServerListPingType.fromModernProtocolVersion(connection.getProtocolVersion());
+        final StatusResponseCache cache = MinecraftServer.getConnectionManager().getStatusResponseCache();
+        final FramedPacket cached = cache.get(pingVersion);
+        if (cached != null) {
+            connection.sendPacket(cached);
+            return;
+        }
         final ServerListPingEvent statusRequestEvent = new ServerListPingEvent(connection, pingVersion);
-        EventDispatcher.callCancellable(statusRequestEvent, () ->
-                connection.sendPacket(new ResponsePacket(pingVersion.getPingResponse(statusRequestEvent.getResponseData()))));
+        EventDispatcher.callCancellable(statusRequestEvent, () -> {
+            final ResponsePacket response = new ResponsePacket(pingVersion.getPingResponse(statusRequestEvent.getResponseData()));
+            connection.sendPacket(cache.isEnabled() ? cache.store(pingVersion, response) : response);
+        });
     }
 
     public static void pingRequestListener(@NotNull ClientPingRequestPacket packet, @NotNull PlayerConnection connection) {
@@ -48,6 +48,7 @@ public final class BenchmarkManager {
     private final Long2LongMap lastWaitedMap = new Long2LongOpenHashMap();
     private final Long2LongMap lastBlockedMap = new Long2LongOpenHashMap();
     private final Map<String, ThreadResult> resultMap = new ConcurrentHashMap<>();
+    private final TickProfiler tickProfiler = new TickProfiler();
 
     private boolean enabled = false;
     private volatile boolean stop = false;
@@ -101,6 +102,24 @@ public final class BenchmarkManager {
         return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
     }
 
+    /**
+     * Gets the packet counters of all connections, always enabled.
+     *
+     * @return the server packet statistics
+     */
+    public @NotNull PacketStatistics getPacketStatistics() {
+        return PacketStatistics.global();
+    }
+
+    /**
+     * Gets the histograms of the server tick phases.
+     *
+     * @return the tick profiler
+     */
+    public @NotNull TickProfiler getTickProfiler() {
+        return tickProfiler;
+    }
+
     public @NotNull Map<String, ThreadResult> getResultMap() {
         return Collections.unmodifiableMap(resultMap);
     }
@@ -0,0 +1,128 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of durations in nanoseconds.
+ * <p>
+ * Values are counted in log-linear buckets, each power of two being split in {@value #HALF_SUB_BUCKETS}
+ * linear sub-buckets, giving percentiles with a relative error below 3.2% over the whole {@code long} range
+ * at a fixed memory cost.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int BUCKET_COUNT = HALF_SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS) + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds, negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0, nanos);
+        this.counts.incrementAndGet(index(value));
+        this.count.increment();
+        this.total.add(value);
+        if (value > max.getPlain()) this.max.accumulateAndGet(value, Math::max);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Gets the value below which a percentage of the recorded durations fall.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the duration in nanoseconds, 0 if nothing has been recorded
+     */
+    public long percentile(double percentile) {
+        Check.argCondition(percentile < 0 || percentile > 100, "Percentile must be between 0 and 100");
+        final long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) count += counts[i] = this.counts.get(i);
+        return percentile(counts, count, percentile);
+    }
+
+    /**
+     * Gets a consistent view of the common percentiles.
+     *
+     * @return a new snapshot
+     */
+    public @NotNull Snapshot snapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) count += counts[i] = this.counts.get(i);
+        final double mean = count == 0 ? 0 : (double) total.sum() / count;
+        return new Snapshot(count, mean,
+                percentile(counts, count, 50), percentile(counts, count, 90),
+                percentile(counts, count, 99), percentile(counts, count, 99.9),
+                max.get());
+    }
+
+    /**
+     * Clears all the recorded durations.
+     * <p>
+     * Durations recorded concurrently may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) this.counts.set(i, 0);
+        this.count.reset();
+        this.total.reset();
+        this.max.set(0);
+    }
+
+    private long percentile(long[] counts, long count, double percentile) {
+        if (count == 0) return 0;
+        final long target = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) return Math.min(highestValue(i), max.get());
+        }
+        return max.get();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return HALF_SUB_BUCKETS * shift + (int) (value >>> shift);
+    }
+
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) return index;
+        final int shift = index / HALF_SUB_BUCKETS - 1;
+        final long subBucket = index % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Percentiles of a histogram, in nanoseconds.
+     *
+     * @param count the number of recorded durations
+     * @param mean  the mean duration
+     * @param p50   the median duration
+     * @param p90   the 90th percentile
+     * @param p99   the 99th percentile
+     * @param p999  the 99.9th percentile
+     * @param max   the highest duration
+     */
+    public record Snapshot(long count, double mean, long p50, long p90, long p99, long p999, long max) {
+    }
+}
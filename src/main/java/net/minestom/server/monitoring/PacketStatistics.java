@@ -0,0 +1,93 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.network.ConnectionState;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Packet counters indexed by direction, connection state and packet id.
+ * <p>
+ * Server totals are available from {@link BenchmarkManager#getPacketStatistics()}, and the counters of a single
+ * connection from {@link net.minestom.server.network.player.PlayerSocketConnection#getPacketStatistics()}.
+ * Packets broadcast through {@link net.minestom.server.utils.PacketUtils#prepareViewablePacket} are grouped
+ * before being sent, they are only included in the server totals.
+ * <p>
+ * Raw bytes are the size of the packet id and payload, compressed bytes the size written to or read from
+ * the socket including framing (before encryption).
+ */
+public sealed interface PacketStatistics permits PacketStatisticsImpl.Concurrent, PacketStatisticsImpl.SingleWriter {
+    int MAX_PACKET_ID = 256;
+
+    @ApiStatus.Internal
+    static @NotNull PacketStatistics global() {
+        return PacketStatisticsImpl.GLOBAL;
+    }
+
+    /**
+     * Creates counters only updated by a single thread per direction,
+     * e.g. the packet decoder of a connection for inbound packets and its worker for outbound ones.
+     *
+     * @return new counters
+     */
+    @ApiStatus.Internal
+    static @NotNull PacketStatistics singleWriter() {
+        return new PacketStatisticsImpl.SingleWriter();
+    }
+
+    /**
+     * Records packets.
+     *
+     * @param direction       the packet direction
+     * @param state           the connection state of the packet
+     * @param packetId        the packet id, ignored if above {@link #MAX_PACKET_ID}
+     * @param packets         the number of packets
+     * @param rawBytes        the uncompressed size of the packets
+     * @param compressedBytes the framed size of the packets
+     */
+    @ApiStatus.Internal
+    void record(@NotNull Direction direction, @NotNull ConnectionState state, int packetId,
+                int packets, long rawBytes, long compressedBytes);
+
+    /**
+     * Gets the counters of a packet type.
+     *
+     * @param direction the packet direction
+     * @param state     the connection state of the packet
+     * @param packetId  the packet id
+     * @return a snapshot of the counters
+     */
+    @NotNull Counters get(@NotNull Direction direction, @NotNull ConnectionState state, int packetId);
+
+    /**
+     * Gets the sum of all packet types.
+     *
+     * @param direction the packet direction
+     * @return a snapshot of the counters
+     */
+    @NotNull Counters total(@NotNull Direction direction);
+
+    /**
+     * Gets the packet types seen at least once, with the most compressed bytes first.
+     *
+     * @param direction the packet direction
+     * @return a snapshot of the counters
+     */
+    @NotNull List<@NotNull Entry> entries(@NotNull Direction direction);
+
+    enum Direction {
+        INBOUND, OUTBOUND
+    }
+
+    record Counters(long packets, long rawBytes, long compressedBytes) {
+        public static final Counters EMPTY = new Counters(0, 0, 0);
+
+        public double compressionRatio() {
+            return rawBytes == 0 ? 0 : (double) compressedBytes / rawBytes;
+        }
+    }
+
+    record Entry(@NotNull ConnectionState state, int packetId, @NotNull Counters counters) {
+    }
+}
@@ -0,0 +1,198 @@
+package net.minestom.server.monitoring;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minestom.server.network.ConnectionState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static net.minestom.server.monitoring.PacketStatistics.MAX_PACKET_ID;
+
+final class PacketStatisticsImpl {
+    static final PacketStatistics GLOBAL = new Concurrent();
+
+    private static final ConnectionState[] STATES = ConnectionState.values();
+    private static final PacketStatistics.Direction[] DIRECTIONS = PacketStatistics.Direction.values();
+    private static final int SLOTS = DIRECTIONS.length * STATES.length;
+    // Packets, raw bytes & compressed bytes
+    private static final int COUNTERS = 3;
+
+    private static int slot(PacketStatistics.Direction direction, ConnectionState state) {
+        return direction.ordinal() * STATES.length + state.ordinal();
+    }
+
+    private static List<PacketStatistics.Entry> entries(PacketStatistics statistics, PacketStatistics.Direction direction) {
+        List<PacketStatistics.Entry> entries = new ArrayList<>();
+        for (ConnectionState state : STATES) {
+            for (int id = 0; id < MAX_PACKET_ID; id++) {
+                final PacketStatistics.Counters counters = statistics.get(direction, state, id);
+                if (counters.packets() > 0) entries.add(new PacketStatistics.Entry(state, id, counters));
+            }
+        }
+        entries.sort(Comparator.comparingLong((PacketStatistics.Entry entry) -> entry.counters().compressedBytes()).reversed());
+        return entries;
+    }
+
+    private static PacketStatistics.Counters total(PacketStatistics statistics, PacketStatistics.Direction direction) {
+        long packets = 0, rawBytes = 0, compressedBytes = 0;
+        for (ConnectionState state : STATES) {
+            for (int id = 0; id < MAX_PACKET_ID; id++) {
+                final PacketStatistics.Counters counters = statistics.get(direction, state, id);
+                packets += counters.packets();
+                rawBytes += counters.rawBytes();
+                compressedBytes += counters.compressedBytes();
+            }
+        }
+        return new PacketStatistics.Counters(packets, rawBytes, compressedBytes);
+    }
+
+    /**
+     * Counters updated from any thread.
+     */
+    static final class Concurrent implements PacketStatistics {
+        private final LongAdder[] adders = new LongAdder[SLOTS * MAX_PACKET_ID * COUNTERS];
+
+        Concurrent() {
+            for (int i = 0; i < adders.length; i++) adders[i] = new LongAdder();
+        }
+
+        @Override
+        public void record(@NotNull Direction direction, @NotNull ConnectionState state, int packetId,
+                           int packets, long rawBytes, long compressedBytes) {
+            if (packetId < 0 || packetId >= MAX_PACKET_ID) return;
+            final int index = (slot(direction, state) * MAX_PACKET_ID + packetId) * COUNTERS;
+            final LongAdder[] adders = this.adders;
+            adders[index].add(packets);
+            adders[index + 1].add(rawBytes);
+            adders[index + 2].add(compressedBytes);
+        }
+
+        @Override
+        public @NotNull Counters get(@NotNull Direction direction, @NotNull ConnectionState state, int packetId) {
+            if (packetId < 0 || packetId >= MAX_PACKET_ID) return Counters.EMPTY;
+            final int index = (slot(direction, state) * MAX_PACKET_ID + packetId) * COUNTERS;
+            return new Counters(adders[index].sum(), adders[index + 1].sum(), adders[index + 2].sum());
+        }
+
+        @Override
+        public @NotNull Counters total(@NotNull Direction direction) {
+            return PacketStatisticsImpl.total(this, direction);
+        }
+
+        @Override
+        public @NotNull List<@NotNull Entry> entries(@NotNull Direction direction) {
+            return PacketStatisticsImpl.entries(this, direction);
+        }
+    }
+
+    /**
+     * Counters only updated by one thread per direction, read from any thread without synchronization.
+     * <p>
+     * Only the packet types seen by the connection are stored, in an open addressing table per direction
+     * replaced by a larger one when full, so that readers always see consistent arrays.
+     */
+    static final class SingleWriter implements PacketStatistics {
+        private static final int INITIAL_CAPACITY = 8;
+
+        private volatile Table inbound = new Table(INITIAL_CAPACITY);
+        private volatile Table outbound = new Table(INITIAL_CAPACITY);
+
+        @Override
+        public void record(@NotNull Direction direction, @NotNull ConnectionState state, int packetId,
+                           int packets, long rawBytes, long compressedBytes) {
+            if (packetId < 0 || packetId >= MAX_PACKET_ID) return;
+            final int key = key(direction, state, packetId);
+            Table table = table(direction);
+            int index = table.find(key);
+            if (table.keys[index] == 0) {
+                if ((table.size + 1) * 4 > table.keys.length * 3) {
+                    table = table.grow();
+                    if (direction == Direction.INBOUND) {
+                        this.inbound = table;
+                    } else {
+                        this.outbound = table;
+                    }
+                    index = table.find(key);
+                }
+                table.keys[index] = key;
+                table.size++;
+            }
+            final long[] counters = table.counters;
+            final int offset = index * COUNTERS;
+            counters[offset] += packets;
+            counters[offset + 1] += rawBytes;
+            counters[offset + 2] += compressedBytes;
+        }
+
+        @Override
+        public @NotNull Counters get(@NotNull Direction direction, @NotNull ConnectionState state, int packetId) {
+            if (packetId < 0 || packetId >= MAX_PACKET_ID) return Counters.EMPTY;
+            final Table table = table(direction);
+            final int index = table.find(key(direction, state, packetId));
+            if (table.keys[index] == 0) return Counters.EMPTY;
+            final long[] counters = table.counters;
+            final int offset = index * COUNTERS;
+            return new Counters(counters[offset], counters[offset + 1], counters[offset + 2]);
+        }
+
+        int capacity() {
+            return inbound.keys.length + outbound.keys.length;
+        }
+
+        private Table table(Direction direction) {
+            return direction == Direction.INBOUND ? inbound : outbound;
+        }
+
+        private static int key(Direction direction, ConnectionState state, int packetId) {
+            // 0 marks empty entries
+            return slot(direction, state) * MAX_PACKET_ID + packetId + 1;
+        }
+
+        private static final class Table {
+            private final int[] keys;
+            private final long[] counters;
+            private final int mask;
+            private int size;
+
+            Table(int capacity) {
+                this.keys = new int[capacity];
+                this.counters = new long[capacity * COUNTERS];
+                this.mask = capacity - 1;
+            }
+
+            int find(int key) {
+                final int[] keys = this.keys;
+                int index = HashCommon.mix(key) & mask;
+                int current;
+                while ((current = keys[index]) != 0 && current != key) index = (index + 1) & mask;
+                return index;
+            }
+
+            Table grow() {
+                Table table = new Table(keys.length * 2);
+                for (int i = 0; i < keys.length; i++) {
+                    final int key = keys[i];
+                    if (key == 0) continue;
+                    final int index = table.find(key);
+                    table.keys[index] = key;
+                    System.arraycopy(counters, i * COUNTERS, table.counters, index * COUNTERS, COUNTERS);
+                }
+                table.size = size;
+                return table;
+            }
+        }
+
+        @Override
+        public @NotNull Counters total(@NotNull Direction direction) {
+            return PacketStatisticsImpl.total(this, direction);
+        }
+
+        @Override
+        public @NotNull List<@NotNull Entry> entries(@NotNull Direction direction) {
+            return PacketStatisticsImpl.entries(this, direction);
+        }
+    }
+}
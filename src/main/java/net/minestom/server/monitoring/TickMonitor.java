@@ -4,10 +4,16 @@ public class TickMonitor {
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final long crossThreadAcquisitions;
 
     public TickMonitor(double tickTime, double acquisitionTime) {
+        this(tickTime, acquisitionTime, 0);
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime, long crossThreadAcquisitions) {
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.crossThreadAcquisitions = crossThreadAcquisitions;
     }
 
     public double getTickTime() {
@@ -17,4 +23,13 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the number of elements acquired by a tick thread from another tick thread during the tick.
+     *
+     * @return the cross-thread acquisition count
+     */
+    public long getCrossThreadAcquisitions() {
+        return crossThreadAcquisitions;
+    }
 }
@@ -0,0 +1,210 @@
+package net.minestom.server.monitoring;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.thread.TickThread;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograms of the duration of each server tick phase, of each instance tick and of each tick thread.
+ * <p>
+ * Phases are recorded by the tick scheduler thread, a {@link net.minestom.server.event.server.ServerTickProfileEvent}
+ * is called at the end of each tick with the durations of that tick.
+ * <p>
+ * Each server process has its own profiler, see {@link BenchmarkManager#getTickProfiler()}.
+ */
+@ApiStatus.Experimental
+public final class TickProfiler {
+    private static final Phase[] PHASES = Phase.values();
+
+    private final LatencyHistogram[] phases = new LatencyHistogram[PHASES.length];
+    // Written by the tick scheduler thread, read by any thread
+    private final AtomicLongArray lastTick = new AtomicLongArray(PHASES.length);
+    private final Map<Instance, LatencyHistogram> instances = Caffeine.newBuilder()
+            .weakKeys().<Instance, LatencyHistogram>build().asMap();
+    private final Map<TickThread, LatencyHistogram> threads = Caffeine.newBuilder()
+            .weakKeys().<TickThread, LatencyHistogram>build().asMap();
+    private final LatencyHistogram jitter = new LatencyHistogram();
+
+    TickProfiler() {
+        Arrays.setAll(phases, i -> new LatencyHistogram());
+    }
+
+    @ApiStatus.Internal
+    public void record(@NotNull Phase phase, long nanos) {
+        this.phases[phase.ordinal()].record(nanos);
+        this.lastTick.setRelease(phase.ordinal(), nanos);
+    }
+
+    @ApiStatus.Internal
+    public void recordInstance(@NotNull Instance instance, long nanos) {
+        this.instances.computeIfAbsent(instance, i -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Adds the histogram of a tick thread, kept until the thread is garbage collected.
+     *
+     * @param thread the tick thread of the server dispatchers
+     */
+    @ApiStatus.Internal
+    public void registerThread(@NotNull TickThread thread) {
+        this.threads.put(thread, thread.tickDuration());
+    }
+
+    /**
+     * Gets the histogram of a phase.
+     *
+     * @param phase the tick phase
+     * @return the phase durations, in nanoseconds
+     */
+    public @NotNull LatencyHistogram phase(@NotNull Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * Gets the durations of the last tick.
+     *
+     * @return the duration of each phase in nanoseconds, indexed by {@link Phase#ordinal()}
+     */
+    public long @NotNull [] lastTick() {
+        long[] lastTick = new long[PHASES.length];
+        for (int i = 0; i < lastTick.length; i++) lastTick[i] = this.lastTick.getAcquire(i);
+        return lastTick;
+    }
+
+    /**
+     * Gets the histogram of an instance, only including the base {@link Instance#tick(long)}.
+     *
+     * @param instance the instance
+     * @return the instance tick durations in nanoseconds, null if the instance has never been ticked
+     */
+    public @Nullable LatencyHistogram instance(@NotNull Instance instance) {
+        return instances.get(instance);
+    }
+
+    /**
+     * Gets the histogram of a thread.
+     *
+     * @param thread the tick thread
+     * @return the time spent ticking partitions each tick in nanoseconds, null if the thread is not profiled
+     */
+    public @Nullable LatencyHistogram thread(@NotNull TickThread thread) {
+        return threads.get(thread);
+    }
+
+    /**
+     * Gets the histogram of the tick start delay, the time between the scheduled start of a tick
+     * and its actual start. Ticks starting late because the previous one overran are not included.
+     *
+     * @return the tick start delays, in nanoseconds
+     * @see net.minestom.server.thread.TickWaitStrategy
+     */
+    public @NotNull LatencyHistogram jitter() {
+        return jitter;
+    }
+
+    /**
+     * Gets the histograms of the {@link net.minestom.server.thread.TickThread tick threads}.
+     *
+     * @return the histogram of each thread
+     */
+    public @Unmodifiable @NotNull Map<TickThread, LatencyHistogram> threads() {
+        return Collections.unmodifiableMap(threads);
+    }
+
+    /**
+     * Gets the percentiles of every histogram.
+     *
+     * @return a new snapshot
+     */
+    public @NotNull Snapshot snapshot() {
+        Map<Phase, LatencyHistogram.Snapshot> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : PHASES) phases.put(phase, phase(phase).snapshot());
+        Map<UUID, LatencyHistogram.Snapshot> instances = new HashMap<>();
+        this.instances.forEach((instance, histogram) -> instances.put(instance.getUniqueId(), histogram.snapshot()));
+        Map<String, LatencyHistogram.Snapshot> threads = new HashMap<>();
+        this.threads.forEach((thread, histogram) -> threads.put(thread.getName(), histogram.snapshot()));
+        return new Snapshot(phases, instances, threads, jitter.snapshot());
+    }
+
+    /**
+     * Clears all the histograms.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : phases) histogram.reset();
+        this.instances.values().forEach(LatencyHistogram::reset);
+        this.threads.values().forEach(LatencyHistogram::reset);
+        this.jitter.reset();
+    }
+
+    /**
+     * Phases of a server tick, in execution order.
+     */
+    public enum Phase {
+        /**
+         * {@link net.minestom.server.timer.SchedulerManager#processTick()}.
+         */
+        SCHEDULER,
+        /**
+         * {@link net.minestom.server.network.ConnectionManager#tick(long)}, includes {@link #WAITING_PLAYERS}.
+         */
+        CONNECTION,
+        /**
+         * Players entering the play state.
+         */
+        WAITING_PLAYERS,
+        /**
+         * All the instance ticks, sequential or parallel.
+         */
+        INSTANCES,
+        /**
+         * Chunk and entity ticks, until the slowest tick thread is done.
+         */
+        DISPATCHER,
+        /**
+         * {@link net.minestom.server.thread.ThreadDispatcher#refreshThreads(long)}.
+         */
+        REFRESH_THREADS,
+        /**
+         * {@link net.minestom.server.timer.SchedulerManager#processTickEnd()}.
+         */
+        SCHEDULER_END,
+        /**
+         * Flush of the packets grouped during the tick.
+         */
+        FLUSH,
+        /**
+         * {@link net.minestom.server.network.socket.Server#tick()}.
+         */
+        SERVER,
+        /**
+         * The whole tick.
+         */
+        TOTAL
+    }
+
+    /**
+     * Percentiles of the profiler histograms.
+     *
+     * @param phases    the snapshot of each phase
+     * @param instances the snapshot of each instance, by instance id
+     * @param threads   the snapshot of each tick thread, by thread name
+     * @param jitter    the snapshot of the tick start delay
+     */
+    public record Snapshot(@NotNull Map<Phase, LatencyHistogram.Snapshot> phases,
+                           @NotNull Map<UUID, LatencyHistogram.Snapshot> instances,
+                           @NotNull Map<String, LatencyHistogram.Snapshot> threads,
+                           @NotNull LatencyHistogram.Snapshot jitter) {
+        public Snapshot {
+            phases = Collections.unmodifiableMap(new EnumMap<>(phases));
+            instances = Map.copyOf(instances);
+            threads = Map.copyOf(threads);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package net.minestom.server.network;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Decides what happens to the packets of a connection whose outbound queue exceeds its byte budget,
+ * generally because the client cannot receive data as fast as it is sent.
+ * <p>
+ * Sets with {@link ConnectionManager#setBackpressurePolicy(BackpressurePolicy)}, the budget defaults to
+ * {@link ServerFlag#OUTBOUND_BUDGET}.
+ */
+@FunctionalInterface
+public interface BackpressurePolicy {
+
+    /**
+     * Drops the packets which are either cosmetic or superseded by the next packet of the same type,
+     * see {@link #isDroppable(ServerPacket)}. Other packets are always sent.
+     *
+     * @return the default policy
+     */
+    static @NotNull BackpressurePolicy dropDroppable() {
+        return (connection, packet, queuedBytes) -> isDroppable(packet) ? Action.DROP : Action.SEND;
+    }
+
+    /**
+     * Same as {@link #dropDroppable()} but disconnects the client once its queue reaches {@code disconnectBytes}.
+     *
+     * @param disconnectBytes the queued bytes after which the connection is closed
+     * @return a new policy
+     */
+    static @NotNull BackpressurePolicy dropDroppable(long disconnectBytes) {
+        return (connection, packet, queuedBytes) -> {
+            if (queuedBytes >= disconnectBytes) return Action.DISCONNECT;
+            return isDroppable(packet) ? Action.DROP : Action.SEND;
+        };
+    }
+
+    /**
+     * Disconnects the client as soon as its budget is exceeded.
+     *
+     * @return a new policy
+     */
+    static @NotNull BackpressurePolicy disconnect() {
+        return (connection, packet, queuedBytes) -> Action.DISCONNECT;
+    }
+
+    /**
+     * Gets if a packet can be skipped without desynchronizing the client.
+     * <p>
+     * Includes particles and sounds, and the entity rotation, head look and velocity packets
+     * which are replaced by the next one sent for the entity.
+     * Positions are never droppable, teleports included, as the following relative movements are based on them
+     * and the client would lose track of the entity.
+     *
+     * @param packet the packet to check
+     * @return true if the packet can be dropped
+     */
+    static boolean isDroppable(@NotNull ServerPacket packet) {
+        return packet instanceof ParticlePacket ||
+                packet instanceof SoundEffectPacket ||
+                packet instanceof EntitySoundEffectPacket ||
+                packet instanceof EntityRotationPacket ||
+                packet instanceof EntityHeadLookPacket ||
+                packet instanceof EntityVelocityPacket;
+    }
+
+    /**
+     * Called for every packet sent while the connection exceeds its budget.
+     * <p>
+     * Called from the connection network thread, must not block.
+     *
+     * @param connection  the connection
+     * @param packet      the packet being sent
+     * @param queuedBytes the number of bytes waiting to be written to the socket
+     * @return the action to apply to the packet
+     */
+    @NotNull Action onBudgetExceeded(@NotNull PlayerConnection connection, @NotNull ServerPacket packet, long queuedBytes);
+
+    enum Action {
+        /**
+         * Queues the packet anyway.
+         */
+        SEND,
+        /**
+         * Skips the packet.
+         */
+        DROP,
+        /**
+         * Skips the packet and closes the connection.
+         */
+        DISCONNECT
+    }
+}
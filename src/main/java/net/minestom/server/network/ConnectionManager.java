@@ -10,6 +10,8 @@ import net.minestom.server.event.player.AsyncPlayerConfigurationEvent;
 import net.minestom.server.event.player.AsyncPlayerPreLoginEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.listener.preplay.LoginListener;
+import net.minestom.server.monitoring.LatencyHistogram;
+import net.minestom.server.monitoring.TickProfiler;
 import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.common.KeepAlivePacket;
@@ -24,6 +26,7 @@ import net.minestom.server.network.packet.server.play.StartConfigurationPacket;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.network.plugin.LoginPluginMessageProcessor;
+import net.minestom.server.ping.StatusResponseCache;
 import net.minestom.server.registry.StaticProtocolObject;
 import net.minestom.server.utils.StringUtils;
 import net.minestom.server.utils.async.AsyncUtils;
@@ -34,6 +37,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.function.Function;
@@ -50,26 +54,46 @@ public final class ConnectionManager {
     // Players waiting to be spawned (post configuration state)
     private final MessagePassingQueue<Player> waitingPlayers = new MpscUnboundedArrayQueue<>(64);
     // Players in configuration state
-    private final Set<Player> configurationPlayers = new CopyOnWriteArraySet<>();
+    private final PlayerRegistry configurationPlayers = new PlayerRegistry();
     // Players in play state
-    private final Set<Player> playPlayers = new CopyOnWriteArraySet<>();
+    private final PlayerRegistry playPlayers = new PlayerRegistry();
 
     // The players who need keep alive ticks. This was added because we may not send a keep alive in
     // the time after sending finish configuration but before receiving configuration end (to swap to play).
     // I(mattw) could not come up with a better way to express this besides completely splitting client/server
     // states. Perhaps there will be an improvement in the future.
-    private final Set<Player> keepAlivePlayers = new CopyOnWriteArraySet<>();
-
-    private final Set<Player> unmodifiableConfigurationPlayers = Collections.unmodifiableSet(configurationPlayers);
-    private final Set<Player> unmodifiablePlayPlayers = Collections.unmodifiableSet(playPlayers);
+    private final PlayerRegistry keepAlivePlayers = new PlayerRegistry();
 
     private final CachedPacket resetChatPacket = new CachedPacket(new ResetChatPacket());
 
+    // Runs the blocking work of the login and configuration phases
+    private final Executor loginExecutor = ServerFlag.LOGIN_VIRTUAL_THREADS ?
+            virtualThreadExecutor(ServerFlag.LOGIN_CONCURRENCY) : AsyncUtils.VOID_FUTURE.defaultExecutor();
+    private final LatencyHistogram loginLatency = new LatencyHistogram();
+    private final LatencyHistogram configurationLatency = new LatencyHistogram();
+    // Profiler of the owning process
+    private final @Nullable TickProfiler tickProfiler;
 
     // The uuid provider once a player login
     private volatile UuidProvider uuidProvider = (playerConnection, username) -> UUID.randomUUID();
     // The player provider to have your own Player implementation
     private volatile PlayerProvider playerProvider = Player::new;
+    // What to do with the packets of clients unable to keep up
+    private volatile BackpressurePolicy backpressurePolicy = BackpressurePolicy.dropDroppable();
+    // Framed status responses
+    private volatile StatusResponseCache statusResponseCache = defaultStatusResponseCache();
+
+    public ConnectionManager() {
+        this(null);
+    }
+
+    /**
+     * @param tickProfiler the profiler receiving the connection tick phases
+     */
+    @ApiStatus.Internal
+    public ConnectionManager(@Nullable TickProfiler tickProfiler) {
+        this.tickProfiler = tickProfiler;
+    }
 
     /**
      * Gets the number of "online" players, eg for the query response.
@@ -81,17 +105,21 @@ public final class ConnectionManager {
     }
 
     /**
-     * Returns an unmodifiable set containing the players currently in the play state.
+     * Returns an unmodifiable collection containing the players currently in the play state.
+     * <p>
+     * Iteration uses a snapshot of the players, unaffected by players joining or leaving.
      */
     public @NotNull Collection<@NotNull Player> getOnlinePlayers() {
-        return unmodifiablePlayPlayers;
+        return playPlayers.view();
     }
 
     /**
-     * Returns an unmodifiable set containing the players currently in the configuration state.
+     * Returns an unmodifiable collection containing the players currently in the configuration state.
+     * <p>
+     * Iteration uses a snapshot of the players, unaffected by players joining or leaving.
      */
     public @NotNull Collection<@NotNull Player> getConfigPlayers() {
-        return unmodifiableConfigurationPlayers;
+        return configurationPlayers.view();
     }
 
     /**
@@ -108,35 +136,37 @@ public final class ConnectionManager {
     }
 
     /**
-     * Gets the first player in the play state which validates {@link String#equalsIgnoreCase(String)}.
+     * Gets the player in the play state with the given username, ignoring case.
      * <p>
-     * This can cause issue if two or more players have the same username.
+     * This can cause issue if two or more players have the same username, the last one to join is returned.
      *
      * @param username the player username (case-insensitive)
-     * @return the first player who validate the username condition, null if none was found
+     * @return the player with the username, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUsername(@NotNull String username) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUsername().equalsIgnoreCase(username))
-                return player;
-        }
-        return null;
+        return playPlayers.byUsername(username);
     }
 
     /**
-     * Gets the first player in the play state which validates {@link UUID#equals(Object)}.
+     * Gets the player in the play state with the given UUID.
      * <p>
-     * This can cause issue if two or more players have the same UUID.
+     * This can cause issue if two or more players have the same UUID, the last one to join is returned.
      *
      * @param uuid the player UUID
-     * @return the first player who validate the UUID condition, null if none was found
+     * @return the player with the UUID, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUuid(@NotNull UUID uuid) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUuid().equals(uuid))
-                return player;
-        }
-        return null;
+        return playPlayers.byUuid(uuid);
+    }
+
+    /**
+     * Gets the player in the play state with the given entity id.
+     *
+     * @param entityId the player entity id
+     * @return the player with the entity id, null if none was found
+     */
+    public @Nullable Player getOnlinePlayerById(int entityId) {
+        return playPlayers.byEntityId(entityId);
     }
 
     /**
@@ -154,7 +184,7 @@ public final class ConnectionManager {
             final String username2 = player.getUsername().toLowerCase(Locale.ROOT);
             return StringUtils.jaroWinklerScore(username1, username2);
         };
-        return getOnlinePlayers().stream()
+        return playPlayers.snapshot().stream()
                 .min(Comparator.comparingDouble(distanceFunction::apply))
                 .filter(player -> distanceFunction.apply(player) > 0)
                 .orElse(null);
@@ -189,6 +219,69 @@ public final class ConnectionManager {
         return uuidProvider.provide(playerConnection, username);
     }
 
+    /**
+     * Changes what happens to the packets of connections exceeding their outbound budget.
+     *
+     * @param backpressurePolicy the new policy, can be set to null to apply the default policy
+     * @see BackpressurePolicy#dropDroppable()
+     */
+    public void setBackpressurePolicy(@Nullable BackpressurePolicy backpressurePolicy) {
+        this.backpressurePolicy = backpressurePolicy != null ? backpressurePolicy : BackpressurePolicy.dropDroppable();
+    }
+
+    public @NotNull BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    /**
+     * Changes the cache of the status responses sent to pinging clients.
+     *
+     * @param statusResponseCache the new cache, can be set to null to apply the default cache
+     * @see ServerFlag#STATUS_CACHE_TTL
+     */
+    public void setStatusResponseCache(@Nullable StatusResponseCache statusResponseCache) {
+        this.statusResponseCache = statusResponseCache != null ? statusResponseCache : defaultStatusResponseCache();
+    }
+
+    public @NotNull StatusResponseCache getStatusResponseCache() {
+        return statusResponseCache;
+    }
+
+    /**
+     * Gets the executor running the login and configuration phases.
+     * <p>
+     * Each task gets its own virtual thread when {@link ServerFlag#LOGIN_VIRTUAL_THREADS} is enabled,
+     * with at most {@link ServerFlag#LOGIN_CONCURRENCY} tasks running at once.
+     *
+     * @return the login executor
+     */
+    @ApiStatus.Internal
+    public @NotNull Executor loginExecutor() {
+        return loginExecutor;
+    }
+
+    /**
+     * Gets the durations of the login phases, from the creation of the player to the login success packet.
+     * <p>
+     * Includes the time spent waiting for the {@link ServerFlag#LOGIN_CONCURRENCY} limit.
+     *
+     * @return the login latency histogram
+     */
+    public @NotNull LatencyHistogram getLoginLatency() {
+        return loginLatency;
+    }
+
+    /**
+     * Gets the durations of the configuration phases, from their start to the finish configuration packet.
+     * <p>
+     * Includes the time spent waiting for the {@link ServerFlag#LOGIN_CONCURRENCY} limit.
+     *
+     * @return the configuration latency histogram
+     */
+    public @NotNull LatencyHistogram getConfigurationLatency() {
+        return configurationLatency;
+    }
+
     /**
      * Changes the {@link Player} provider, to change which object to link to him.
      *
@@ -212,7 +305,7 @@ public final class ConnectionManager {
 
     @ApiStatus.Internal
     public @NotNull CompletableFuture<Void> transitionLoginToConfig(@NotNull Player player) {
-        return AsyncUtils.runAsync(() -> {
+        return runPhase(loginLatency, () -> {
             final PlayerConnection playerConnection = player.getPlayerConnection();
 
             // Compression
@@ -274,7 +367,7 @@ public final class ConnectionManager {
         // Request known packs immediately, but don't wait for the response until required (sending registry data).
         final var knownPacksFuture = connection.requestKnownPacks(List.of(SelectKnownPacksPacket.MINECRAFT_CORE));
 
-        return AsyncUtils.runAsync(() -> {
+        return runPhase(configurationLatency, () -> {
             var event = new AsyncPlayerConfigurationEvent(player, isFirstConfig);
             EventDispatcher.call(event);
             if (!player.isOnline()) return; // Player was kicked during config.
@@ -360,13 +453,16 @@ public final class ConnectionManager {
 
     public void tick(long tickStart) {
         // Let waiting players into their instances
+        final long waitingStart = System.nanoTime();
         updateWaitingPlayers();
+        final TickProfiler tickProfiler = this.tickProfiler;
+        if (tickProfiler != null) tickProfiler.record(TickProfiler.Phase.WAITING_PLAYERS, System.nanoTime() - waitingStart);
 
         // Send keep alive packets
-        handleKeepAlive(keepAlivePlayers, tickStart);
+        handleKeepAlive(keepAlivePlayers.snapshot(), tickStart);
 
         // Interpret packets for configuration players
-        configurationPlayers.forEach(Player::interpretPacketQueue);
+        configurationPlayers.snapshot().forEach(Player::interpretPacketQueue);
     }
 
     /**
@@ -393,6 +489,36 @@ public final class ConnectionManager {
         });
     }
 
+    private CompletableFuture<Void> runPhase(LatencyHistogram latency, Runnable runnable) {
+        final long start = System.nanoTime();
+        return AsyncUtils.runAsync(() -> {
+            try {
+                runnable.run();
+            } finally {
+                latency.record(System.nanoTime() - start);
+            }
+        }, loginExecutor);
+    }
+
+    private static StatusResponseCache defaultStatusResponseCache() {
+        return new StatusResponseCache(Duration.ofMillis(ServerFlag.STATUS_CACHE_TTL));
+    }
+
+    private static Executor virtualThreadExecutor(int concurrency) {
+        Check.argCondition(concurrency <= 0, "The login concurrency must be positive");
+        final ThreadFactory factory = Thread.ofVirtual().name("Ms-login-", 0).factory();
+        // Excess tasks park their virtual thread instead of occupying a carrier
+        final Semaphore permits = new Semaphore(concurrency);
+        return task -> factory.newThread(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        }).start();
+    }
+
     /**
      * Updates keep alive by checking the last keep alive packet and send a new one if needed.
      *
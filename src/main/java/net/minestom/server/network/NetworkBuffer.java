@@ -126,6 +126,139 @@ public final class NetworkBuffer {
         return type.read(this);
     }
 
+    // Primitive accessors, used by packets to avoid boxing through Type
+
+    public void writeBoolean(boolean value) {
+        ensureSize(1);
+        nioBuffer.put(writeIndex, value ? (byte) 1 : (byte) 0);
+        writeIndex += 1;
+    }
+
+    public boolean readBoolean() {
+        final byte value = nioBuffer.get(readIndex);
+        readIndex += 1;
+        return value == 1;
+    }
+
+    public void writeByte(byte value) {
+        ensureSize(1);
+        nioBuffer.put(writeIndex, value);
+        writeIndex += 1;
+    }
+
+    public byte readByte() {
+        final byte value = nioBuffer.get(readIndex);
+        readIndex += 1;
+        return value;
+    }
+
+    public void writeShort(short value) {
+        ensureSize(2);
+        nioBuffer.putShort(writeIndex, value);
+        writeIndex += 2;
+    }
+
+    public short readShort() {
+        final short value = nioBuffer.getShort(readIndex);
+        readIndex += 2;
+        return value;
+    }
+
+    public void writeInt(int value) {
+        ensureSize(4);
+        nioBuffer.putInt(writeIndex, value);
+        writeIndex += 4;
+    }
+
+    public int readInt() {
+        final int value = nioBuffer.getInt(readIndex);
+        readIndex += 4;
+        return value;
+    }
+
+    public void writeLong(long value) {
+        ensureSize(8);
+        nioBuffer.putLong(writeIndex, value);
+        writeIndex += 8;
+    }
+
+    public long readLong() {
+        final long value = nioBuffer.getLong(readIndex);
+        readIndex += 8;
+        return value;
+    }
+
+    public void writeFloat(float value) {
+        ensureSize(4);
+        nioBuffer.putFloat(writeIndex, value);
+        writeIndex += 4;
+    }
+
+    public float readFloat() {
+        final float value = nioBuffer.getFloat(readIndex);
+        readIndex += 4;
+        return value;
+    }
+
+    public void writeDouble(double value) {
+        ensureSize(8);
+        nioBuffer.putDouble(writeIndex, value);
+        writeIndex += 8;
+    }
+
+    public double readDouble() {
+        final double value = nioBuffer.getDouble(readIndex);
+        readIndex += 8;
+        return value;
+    }
+
+    public void writeVarInt(int value) {
+        final int index = writeIndex;
+        if ((value & (0xFFFFFFFF << 7)) == 0) {
+            ensureSize(1);
+            nioBuffer.put(index, (byte) value);
+            writeIndex += 1;
+        } else if ((value & (0xFFFFFFFF << 14)) == 0) {
+            ensureSize(2);
+            nioBuffer.putShort(index, (short) ((value & 0x7F | 0x80) << 8 | (value >>> 7)));
+            writeIndex += 2;
+        } else if ((value & (0xFFFFFFFF << 21)) == 0) {
+            ensureSize(3);
+            var nio = nioBuffer;
+            nio.put(index, (byte) (value & 0x7F | 0x80));
+            nio.put(index + 1, (byte) ((value >>> 7) & 0x7F | 0x80));
+            nio.put(index + 2, (byte) (value >>> 14));
+            writeIndex += 3;
+        } else if ((value & (0xFFFFFFFF << 28)) == 0) {
+            ensureSize(4);
+            var nio = nioBuffer;
+            nio.putInt(index, (value & 0x7F | 0x80) << 24 | (((value >>> 7) & 0x7F | 0x80) << 16)
+                    | ((value >>> 14) & 0x7F | 0x80) << 8 | (value >>> 21));
+            writeIndex += 4;
+        } else {
+            ensureSize(5);
+            var nio = nioBuffer;
+            nio.putInt(index, (value & 0x7F | 0x80) << 24 | ((value >>> 7) & 0x7F | 0x80) << 16
+                    | ((value >>> 14) & 0x7F | 0x80) << 8 | ((value >>> 21) & 0x7F | 0x80));
+            nio.put(index + 4, (byte) (value >>> 28));
+            writeIndex += 5;
+        }
+    }
+
+    public int readVarInt() {
+        int index = readIndex;
+        // https://github.com/jvm-profiling-tools/async-profiler/blob/a38a375dc62b31a8109f3af97366a307abb0fe6f/src/converter/one/jfr/JfrReader.java#L393
+        int result = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = nioBuffer.get(index++);
+            result |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                readIndex = index;
+                return result;
+            }
+        }
+    }
+
     public <T> void writeOptional(@NotNull Type<T> type, @Nullable T value) {
         write(BOOLEAN, value != null);
         if (value != null) write(type, value);
@@ -44,48 +44,36 @@ interface NetworkBufferTypeImpl<T> extends NetworkBuffer.Type<T> {
     record BooleanType() implements NetworkBufferTypeImpl<Boolean> {
         @Override
         public void write(@NotNull NetworkBuffer buffer, Boolean value) {
-            buffer.ensureSize(1);
-            buffer.nioBuffer.put(buffer.writeIndex(), value ? (byte) 1 : (byte) 0);
-            buffer.writeIndex += 1;
+            buffer.writeBoolean(value);
         }
 
         @Override
         public Boolean read(@NotNull NetworkBuffer buffer) {
-            final byte value = buffer.nioBuffer.get(buffer.readIndex());
-            buffer.readIndex += 1;
-            return value == 1;
+            return buffer.readBoolean();
         }
     }
 
     record ByteType() implements NetworkBufferTypeImpl<Byte> {
         @Override
         public void write(@NotNull NetworkBuffer buffer, Byte value) {
-            buffer.ensureSize(1);
-            buffer.nioBuffer.put(buffer.writeIndex(), value);
-            buffer.writeIndex += 1;
+            buffer.writeByte(value);
         }
 
         @Override
         public Byte read(@NotNull NetworkBuffer buffer) {
-            final byte value = buffer.nioBuffer.get(buffer.readIndex());
-            buffer.readIndex += 1;
-            return value;
+            return buffer.readByte();
         }
     }
 
     record ShortType() implements NetworkBufferTypeImpl<Short> {
         @Override
         public void write(@NotNull NetworkBuffer buffer, Short value) {
-            buffer.ensureSize(2);
-            buffer.nioBuffer.putShort(buffer.writeIndex(), value);
-            buffer.writeIndex += 2;
+            buffer.writeShort(value);
         }
 
         @Override
         public Short read(@NotNull NetworkBuffer buffer) {
-            final short value = buffer.nioBuffer.getShort(buffer.readIndex());
-            buffer.readIndex += 2;
-            return value;
+            return buffer.readShort();
         }
     }
 
@@ -108,116 +96,60 @@ interface NetworkBufferTypeImpl<T> extends NetworkBuffer.Type<T> {
     record IntType() implements NetworkBufferTypeImpl<Integer> {
         @Override
         public void write(@NotNull NetworkBuffer buffer, Integer value) {
-            buffer.ensureSize(4);
-            buffer.nioBuffer.putInt(buffer.writeIndex(), value);
-            buffer.writeIndex += 4;
+            buffer.writeInt(value);
         }
 
         @Override
         public Integer read(@NotNull NetworkBuffer buffer) {
-            final int value = buffer.nioBuffer.getInt(buffer.readIndex());
-            buffer.readIndex += 4;
-            return value;
+            return buffer.readInt();
         }
     }
 
     record LongType() implements NetworkBufferTypeImpl<Long> {
         @Override
         public void write(@NotNull NetworkBuffer buffer, Long value) {
-            buffer.ensureSize(8);
-            buffer.nioBuffer.putLong(buffer.writeIndex(), value);
-            buffer.writeIndex += 8;
+            buffer.writeLong(value);
         }
 
         @Override
         public Long read(@NotNull NetworkBuffer buffer) {
-            final long value = buffer.nioBuffer.getLong(buffer.readIndex());
-            buffer.readIndex += 8;
-            return value;
+            return buffer.readLong();
         }
     }
 
     record FloatType() implements NetworkBufferTypeImpl<Float> {
         @Override
         public void write(@NotNull NetworkBuffer buffer, Float value) {
-            buffer.ensureSize(4);
-            buffer.nioBuffer.putFloat(buffer.writeIndex(), value);
-            buffer.writeIndex += 4;
+            buffer.writeFloat(value);
         }
 
         @Override
         public Float read(@NotNull NetworkBuffer buffer) {
-            final float value = buffer.nioBuffer.getFloat(buffer.readIndex());
-            buffer.readIndex += 4;
-            return value;
+            return buffer.readFloat();
         }
     }
 
     record DoubleType() implements NetworkBufferTypeImpl<Double> {
         @Override
         public void write(@NotNull NetworkBuffer buffer, Double value) {
-            buffer.ensureSize(8);
-            buffer.nioBuffer.putDouble(buffer.writeIndex(), value);
-            buffer.writeIndex += 8;
+            buffer.writeDouble(value);
         }
 
         @Override
         public Double read(@NotNull NetworkBuffer buffer) {
-            final double value = buffer.nioBuffer.getDouble(buffer.readIndex());
-            buffer.readIndex += 8;
-            return value;
+            return buffer.readDouble();
         }
     }
 
     record VarIntType() implements NetworkBufferTypeImpl<Integer> {
         @Override
-        public void write(@NotNull NetworkBuffer buffer, Integer boxed) {
-            final int value = boxed;
-            final int index = buffer.writeIndex();
-            if ((value & (0xFFFFFFFF << 7)) == 0) {
-                buffer.ensureSize(1);
-                buffer.nioBuffer.put(index, (byte) value);
-                buffer.writeIndex += 1;
-            } else if ((value & (0xFFFFFFFF << 14)) == 0) {
-                buffer.ensureSize(2);
-                buffer.nioBuffer.putShort(index, (short) ((value & 0x7F | 0x80) << 8 | (value >>> 7)));
-                buffer.writeIndex += 2;
-            } else if ((value & (0xFFFFFFFF << 21)) == 0) {
-                buffer.ensureSize(3);
-                var nio = buffer.nioBuffer;
-                nio.put(index, (byte) (value & 0x7F | 0x80));
-                nio.put(index + 1, (byte) ((value >>> 7) & 0x7F | 0x80));
-                nio.put(index + 2, (byte) (value >>> 14));
-                buffer.writeIndex += 3;
-            } else if ((value & (0xFFFFFFFF << 28)) == 0) {
-                buffer.ensureSize(4);
-                var nio = buffer.nioBuffer;
-                nio.putInt(index, (value & 0x7F | 0x80) << 24 | (((value >>> 7) & 0x7F | 0x80) << 16)
-                        | ((value >>> 14) & 0x7F | 0x80) << 8 | (value >>> 21));
-                buffer.writeIndex += 4;
-            } else {
-                buffer.ensureSize(5);
-                var nio = buffer.nioBuffer;
-                nio.putInt(index, (value & 0x7F | 0x80) << 24 | ((value >>> 7) & 0x7F | 0x80) << 16
-                        | ((value >>> 14) & 0x7F | 0x80) << 8 | ((value >>> 21) & 0x7F | 0x80));
-                nio.put(index + 4, (byte) (value >>> 28));
-                buffer.writeIndex += 5;
-            }
+        public void write(@NotNull NetworkBuffer buffer, Integer value) {
+            buffer.writeVarInt(value);
         }
 
         @Override
         public Integer read(@NotNull NetworkBuffer buffer) {
-            int index = buffer.readIndex();
-            // https://github.com/jvm-profiling-tools/async-profiler/blob/a38a375dc62b31a8109f3af97366a307abb0fe6f/src/converter/one/jfr/JfrReader.java#L393
-            int result = 0;
-            for (int shift = 0; ; shift += 7) {
-                byte b = buffer.nioBuffer.get(index++);
-                result |= (b & 0x7f) << shift;
-                if (b >= 0) {
-                    buffer.readIndex += index - buffer.readIndex();
-                    return result;
-                }
-            }
+            return buffer.readVarInt();
         }
     }
 
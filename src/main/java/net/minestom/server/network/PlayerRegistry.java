@@ -0,0 +1,148 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent set of players indexed by UUID, lowercase username and entity id.
+ * <p>
+ * Players sharing a key are all kept in its index, lookups return the last added one still registered.
+ * <p>
+ * Additions and removals do not copy the set, iteration uses an immutable snapshot
+ * rebuilt at most once after each batch of changes.
+ */
+final class PlayerRegistry {
+    private final Set<Player> players = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, List<Player>> byUuid = new ConcurrentHashMap<>();
+    private final Map<String, List<Player>> byUsername = new ConcurrentHashMap<>();
+    private final Map<Integer, Player> byEntityId = new ConcurrentHashMap<>();
+
+    private volatile List<Player> snapshot = List.of();
+    private volatile boolean dirty;
+
+    private final Collection<Player> view = new View();
+
+    boolean add(@NotNull Player player) {
+        if (!players.add(player)) return false;
+        index(byUuid, player.getUuid(), player);
+        index(byUsername, key(player.getUsername()), player);
+        this.byEntityId.put(player.getEntityId(), player);
+        this.dirty = true;
+        return true;
+    }
+
+    boolean remove(@NotNull Player player) {
+        if (!players.remove(player)) return false;
+        unindex(byUuid, player.getUuid(), player);
+        unindex(byUsername, key(player.getUsername()), player);
+        this.byEntityId.remove(player.getEntityId(), player);
+        this.dirty = true;
+        return true;
+    }
+
+    void clear() {
+        this.players.clear();
+        this.byUuid.clear();
+        this.byUsername.clear();
+        this.byEntityId.clear();
+        this.dirty = true;
+    }
+
+    int size() {
+        return players.size();
+    }
+
+    @Nullable Player byUuid(@NotNull UUID uuid) {
+        return lookup(byUuid, uuid);
+    }
+
+    @Nullable Player byUsername(@NotNull String username) {
+        return lookup(byUsername, key(username));
+    }
+
+    @Nullable Player byEntityId(int entityId) {
+        return byEntityId.get(entityId);
+    }
+
+    /**
+     * Gets the players at the time of the call, safe to iterate while players join and quit.
+     *
+     * @return an immutable list of the players
+     */
+    @NotNull List<Player> snapshot() {
+        if (dirty) {
+            synchronized (this) {
+                if (dirty) {
+                    // Reset before copying, changes made during the copy mark the registry as dirty again
+                    this.dirty = false;
+                    this.snapshot = List.copyOf(players);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets an unmodifiable view of the registry, iterating over the current snapshot.
+     *
+     * @return the registry view
+     */
+    @NotNull Collection<Player> view() {
+        return view;
+    }
+
+    private static <K> void index(Map<K, List<Player>> index, K key, Player player) {
+        index.compute(key, (k, players) -> {
+            if (players == null) return List.of(player);
+            Player[] result = players.toArray(new Player[players.size() + 1]);
+            result[players.size()] = player;
+            return List.of(result);
+        });
+    }
+
+    private static <K> void unindex(Map<K, List<Player>> index, K key, Player player) {
+        // Other players with the same key stay indexed
+        index.computeIfPresent(key, (k, players) -> {
+            if (!players.contains(player)) return players;
+            if (players.size() == 1) return null;
+            List<Player> result = new ArrayList<>(players);
+            result.remove(player);
+            return List.copyOf(result);
+        });
+    }
+
+    private static <K> @Nullable Player lookup(Map<K, List<Player>> index, K key) {
+        final List<Player> players = index.get(key);
+        return players != null ? players.get(players.size() - 1) : null;
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private final class View extends AbstractCollection<Player> {
+        @Override
+        public @NotNull Iterator<Player> iterator() {
+            return snapshot().iterator();
+        }
+
+        @Override
+        public int size() {
+            return players.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return players.contains(o);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return players.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package net.minestom.server.network.compression;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+final class JdkPacketCompressorImpl implements PacketCompressor {
+    private static final Settings SKIP = new Settings(Integer.MIN_VALUE, Integer.MIN_VALUE);
+
+    private final Settings defaultSettings;
+    private final Map<Class<?>, Settings> packetSettings;
+    private final ThreadLocal<LocalDeflater> localDeflater = ThreadLocal.withInitial(LocalDeflater::new);
+
+    private final LongAdder packets = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    JdkPacketCompressorImpl(Settings defaultSettings, Map<Class<?>, Settings> packetSettings) {
+        this.defaultSettings = defaultSettings;
+        this.packetSettings = Map.copyOf(packetSettings);
+    }
+
+    @Override
+    public int compress(@NotNull NetworkBuffer.Writer packet, @NotNull ByteBuffer input, @NotNull ByteBuffer output) {
+        final Settings settings = packetSettings.isEmpty() ? defaultSettings :
+                packetSettings.getOrDefault(packet.getClass(), defaultSettings);
+        if (settings == SKIP) {
+            this.skipped.increment();
+            return -1;
+        }
+        final long start = System.nanoTime();
+        final int inputSize = input.remaining();
+        final int outputStart = output.position();
+
+        Deflater deflater = localDeflater.get().deflater(settings);
+        deflater.setInput(input);
+        deflater.finish();
+        deflater.deflate(output);
+        final boolean finished = deflater.finished();
+        deflater.reset();
+
+        if (!finished) {
+            // Output too small, can only happen with incompressible data
+            this.skipped.increment();
+            return -1;
+        }
+        final int written = output.position() - outputStart;
+        this.packets.increment();
+        this.bytesIn.add(inputSize);
+        this.bytesOut.add(written);
+        this.nanos.add(System.nanoTime() - start);
+        return written;
+    }
+
+    @Override
+    public @NotNull Statistics statistics() {
+        return new Statistics(packets.sum(), skipped.sum(), bytesIn.sum(), bytesOut.sum(), nanos.sum());
+    }
+
+    record Settings(int level, int strategy) {
+    }
+
+    private static final class LocalDeflater {
+        private final Deflater deflater = new Deflater();
+        private int level = Deflater.DEFAULT_COMPRESSION;
+        private int strategy = Deflater.DEFAULT_STRATEGY;
+
+        Deflater deflater(Settings settings) {
+            // Only update the native parameters when they change
+            if (settings.level() != level) {
+                this.deflater.setLevel(settings.level());
+                this.level = settings.level();
+            }
+            if (settings.strategy() != strategy) {
+                this.deflater.setStrategy(settings.strategy());
+                this.strategy = settings.strategy();
+            }
+            return deflater;
+        }
+    }
+
+    static final class BuilderImpl implements JdkBuilder {
+        private int level = Deflater.DEFAULT_COMPRESSION;
+        private int strategy = Deflater.DEFAULT_STRATEGY;
+        private final Map<Class<?>, Settings> packetSettings = new HashMap<>();
+
+        @Override
+        public @NotNull JdkBuilder level(int level) {
+            this.level = validLevel(level);
+            return this;
+        }
+
+        @Override
+        public @NotNull JdkBuilder strategy(int strategy) {
+            this.strategy = validStrategy(strategy);
+            return this;
+        }
+
+        @Override
+        public @NotNull JdkBuilder packet(@NotNull Class<? extends ServerPacket> type, int level, int strategy) {
+            this.packetSettings.put(type, new Settings(validLevel(level), validStrategy(strategy)));
+            return this;
+        }
+
+        @Override
+        public @NotNull JdkBuilder skip(@NotNull Class<? extends ServerPacket> type) {
+            this.packetSettings.put(type, SKIP);
+            return this;
+        }
+
+        @Override
+        public @NotNull PacketCompressor build() {
+            return new JdkPacketCompressorImpl(new Settings(level, strategy), packetSettings);
+        }
+
+        private static int validLevel(int level) {
+            Check.argCondition((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION,
+                    "Invalid compression level: {0}", level);
+            return level;
+        }
+
+        private static int validStrategy(int strategy) {
+            Check.argCondition(strategy != Deflater.DEFAULT_STRATEGY && strategy != Deflater.FILTERED && strategy != Deflater.HUFFMAN_ONLY,
+                    "Invalid compression strategy: {0}", strategy);
+            return strategy;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package net.minestom.server.network.compression;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.ServerPacket;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses the content of framed packets once they reach the compression threshold.
+ * <p>
+ * Implementations must be thread-safe, they are called from every network worker.
+ */
+@ApiStatus.Experimental
+public interface PacketCompressor {
+    /**
+     * Gets a compressor backed by the JDK {@link Deflater} with the default settings.
+     *
+     * @return a new compressor
+     */
+    static @NotNull PacketCompressor jdk() {
+        return jdkBuilder().build();
+    }
+
+    /**
+     * Creates a builder for a {@link Deflater} compressor with custom settings per packet type.
+     *
+     * @return a new builder
+     */
+    static @NotNull JdkBuilder jdkBuilder() {
+        return new JdkPacketCompressorImpl.BuilderImpl();
+    }
+
+    /**
+     * Compresses {@code input} (packet id + packet content) into {@code output}.
+     * <p>
+     * Output is written starting at its position, which must be advanced by the number of written bytes.
+     * If the packet ends up not being compressed, the content of {@code output} is discarded.
+     *
+     * @param packet the packet being compressed
+     * @param input  the uncompressed packet, from its position to its limit
+     * @param output the buffer receiving the compressed data
+     * @return the number of bytes written, or -1 to send the packet uncompressed
+     */
+    int compress(@NotNull NetworkBuffer.Writer packet, @NotNull ByteBuffer input, @NotNull ByteBuffer output);
+
+    /**
+     * Gets the counters of this compressor since its creation.
+     *
+     * @return a snapshot of the counters
+     */
+    @NotNull Statistics statistics();
+
+    /**
+     * Counters of a {@link PacketCompressor}.
+     *
+     * @param packets  the number of compressed packets
+     * @param skipped  the number of packets sent uncompressed despite reaching the threshold
+     * @param bytesIn  the uncompressed size of the compressed packets
+     * @param bytesOut the compressed size of the compressed packets
+     * @param nanos    the time spent compressing, in nanoseconds
+     */
+    record Statistics(long packets, long skipped, long bytesIn, long bytesOut, long nanos) {
+        public double ratio() {
+            return bytesIn == 0 ? 1 : (double) bytesOut / bytesIn;
+        }
+    }
+
+    sealed interface JdkBuilder permits JdkPacketCompressorImpl.BuilderImpl {
+        /**
+         * Sets the default compression level, see {@link Deflater#setLevel(int)}.
+         */
+        @NotNull JdkBuilder level(int level);
+
+        /**
+         * Sets the default compression strategy, see {@link Deflater#setStrategy(int)}.
+         */
+        @NotNull JdkBuilder strategy(int strategy);
+
+        /**
+         * Overrides the compression settings of a packet type.
+         *
+         * @param type     the packet class
+         * @param level    the compression level
+         * @param strategy the compression strategy
+         */
+        @NotNull JdkBuilder packet(@NotNull Class<? extends ServerPacket> type, int level, int strategy);
+
+        default @NotNull JdkBuilder packet(@NotNull Class<? extends ServerPacket> type, int level) {
+            return packet(type, level, Deflater.DEFAULT_STRATEGY);
+        }
+
+        /**
+         * Sends a packet type uncompressed, whatever its size.
+         *
+         * @param type the packet class
+         */
+        @NotNull JdkBuilder skip(@NotNull Class<? extends ServerPacket> type);
+
+        @NotNull PacketCompressor build();
+    }
+}
@@ -4,11 +4,9 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.LONG;
-
 public record ClientKeepAlivePacket(long id) implements ClientPacket {
     public ClientKeepAlivePacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(LONG));
+        this(reader.readLong());
     }
 
     @Override
@@ -18,6 +16,6 @@ public record ClientKeepAlivePacket(long id) implements ClientPacket {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(LONG, id);
+        writer.writeLong(id);
     }
 }
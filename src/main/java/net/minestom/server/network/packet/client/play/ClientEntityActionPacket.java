@@ -4,20 +4,18 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.VAR_INT;
-
 public record ClientEntityActionPacket(int playerId, @NotNull Action action,
                                        int horseJumpBoost) implements ClientPacket {
     public ClientEntityActionPacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(VAR_INT), reader.readEnum(Action.class),
-                reader.read(VAR_INT));
+        this(reader.readVarInt(), reader.readEnum(Action.class),
+                reader.readVarInt());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, playerId);
+        writer.writeVarInt(playerId);
         writer.writeEnum(Action.class, action);
-        writer.write(VAR_INT, horseJumpBoost);
+        writer.writeVarInt(horseJumpBoost);
     }
 
     public enum Action {
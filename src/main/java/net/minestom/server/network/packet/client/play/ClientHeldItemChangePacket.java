@@ -4,15 +4,13 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.SHORT;
-
 public record ClientHeldItemChangePacket(short slot) implements ClientPacket {
     public ClientHeldItemChangePacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(SHORT));
+        this(reader.readShort());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(SHORT, slot);
+        writer.writeShort(slot);
     }
 }
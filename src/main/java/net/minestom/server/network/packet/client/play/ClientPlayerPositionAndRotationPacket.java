@@ -5,22 +5,20 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.*;
-
 public record ClientPlayerPositionAndRotationPacket(@NotNull Pos position,
                                                     boolean onGround) implements ClientPacket {
     public ClientPlayerPositionAndRotationPacket(@NotNull NetworkBuffer reader) {
-        this(new Pos(reader.read(DOUBLE), reader.read(DOUBLE), reader.read(DOUBLE),
-                reader.read(FLOAT), reader.read(FLOAT)), reader.read(BOOLEAN));
+        this(new Pos(reader.readDouble(), reader.readDouble(), reader.readDouble(),
+                reader.readFloat(), reader.readFloat()), reader.readBoolean());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(DOUBLE, position.x());
-        writer.write(DOUBLE, position.y());
-        writer.write(DOUBLE, position.z());
-        writer.write(FLOAT, position.yaw());
-        writer.write(FLOAT, position.pitch());
-        writer.write(BOOLEAN, onGround);
+        writer.writeDouble(position.x());
+        writer.writeDouble(position.y());
+        writer.writeDouble(position.z());
+        writer.writeFloat(position.yaw());
+        writer.writeFloat(position.pitch());
+        writer.writeBoolean(onGround);
     }
 }
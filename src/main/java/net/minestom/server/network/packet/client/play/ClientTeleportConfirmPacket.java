@@ -4,15 +4,13 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.VAR_INT;
-
 public record ClientTeleportConfirmPacket(int teleportId) implements ClientPacket {
     public ClientTeleportConfirmPacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(VAR_INT));
+        this(reader.readVarInt());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, teleportId);
+        writer.writeVarInt(teleportId);
     }
 }
@@ -5,21 +5,18 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.DOUBLE;
-import static net.minestom.server.network.NetworkBuffer.FLOAT;
-
 public record ClientVehicleMovePacket(@NotNull Pos position) implements ClientPacket {
     public ClientVehicleMovePacket(@NotNull NetworkBuffer reader) {
-        this(new Pos(reader.read(DOUBLE), reader.read(DOUBLE), reader.read(DOUBLE),
-                reader.read(FLOAT), reader.read(FLOAT)));
+        this(new Pos(reader.readDouble(), reader.readDouble(), reader.readDouble(),
+                reader.readFloat(), reader.readFloat()));
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(DOUBLE, position.x());
-        writer.write(DOUBLE, position.y());
-        writer.write(DOUBLE, position.z());
-        writer.write(FLOAT, position.yaw());
-        writer.write(FLOAT, position.pitch());
+        writer.writeDouble(position.x());
+        writer.writeDouble(position.y());
+        writer.writeDouble(position.z());
+        writer.writeFloat(position.yaw());
+        writer.writeFloat(position.pitch());
     }
 }
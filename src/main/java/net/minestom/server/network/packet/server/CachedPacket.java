@@ -9,6 +9,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 /**
@@ -16,15 +17,23 @@ import java.util.function.Supplier;
  * <p>
  * The cache is stored in a {@link SoftReference} and is invalidated when {@link #invalidate()} is called.
  * <p>
+ * The framed body is computed at most once per invalidation, even when requested concurrently by multiple connections.
+ * <p>
  * Packet supplier must be thread-safe.
  */
 @ApiStatus.Internal
 public final class CachedPacket implements SendablePacket {
     private final Supplier<ServerPacket> packetSupplier;
+    private final @Nullable Statistics statistics;
     private volatile SoftReference<FramedPacket> packet;
 
-    public CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier) {
+    public CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier, @Nullable Statistics statistics) {
         this.packetSupplier = packetSupplier;
+        this.statistics = statistics;
+    }
+
+    public CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier) {
+        this(packetSupplier, null);
     }
 
     public CachedPacket(@NotNull ServerPacket packet) {
@@ -45,19 +54,84 @@ public final class CachedPacket implements SendablePacket {
         return cache != null ? cache.body() : null;
     }
 
+    /**
+     * Gets the cached packet along with its body.
+     *
+     * @param state the connection state
+     * @return the framed packet, null if caching is disabled
+     */
+    @ApiStatus.Internal
+    public @Nullable FramedPacket framedPacket(@NotNull ConnectionState state) {
+        return updatedCache(state);
+    }
+
+    /**
+     * Gets the packet without framing it, nor updating the statistics.
+     * <p>
+     * Used by connections unable to write the cached body as-is.
+     *
+     * @return the cached packet if present, a new one otherwise
+     */
+    @ApiStatus.Internal
+    public @NotNull ServerPacket rawPacket() {
+        final SoftReference<FramedPacket> ref = packet;
+        final FramedPacket cache;
+        return ref != null && (cache = ref.get()) != null ? cache.packet() : packetSupplier.get();
+    }
+
     private @Nullable FramedPacket updatedCache(@NotNull ConnectionState state) {
         if (!ServerFlag.CACHED_PACKET)
             return null;
         SoftReference<FramedPacket> ref = packet;
         FramedPacket cache;
         if (ref == null || (cache = ref.get()) == null) {
-            cache = PacketUtils.allocateTrimmedPacket(state, packetSupplier.get());
-            this.packet = new SoftReference<>(cache);
+            synchronized (this) {
+                // Another thread may have computed the packet while waiting
+                ref = packet;
+                if (ref == null || (cache = ref.get()) == null) {
+                    cache = PacketUtils.allocateTrimmedPacket(state, packetSupplier.get());
+                    this.packet = new SoftReference<>(cache);
+                    if (statistics != null) statistics.misses.increment();
+                    return cache;
+                }
+            }
         }
+        if (statistics != null) statistics.hits.increment();
         return cache;
     }
 
     public boolean isValid() {
         return packet != null && packet.get() != null;
     }
+
+    /**
+     * Hit/miss counters, can be shared between multiple cached packets.
+     */
+    public static final class Statistics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        /**
+         * Gets the number of times a cached body has been reused.
+         *
+         * @return the hit count
+         */
+        public long hits() {
+            return hits.sum();
+        }
+
+        /**
+         * Gets the number of times a body had to be framed (and compressed).
+         *
+         * @return the miss count
+         */
+        public long misses() {
+            return misses.sum();
+        }
+
+        public void reset() {
+            this.hits.reset();
+            this.misses.reset();
+        }
+    }
 }
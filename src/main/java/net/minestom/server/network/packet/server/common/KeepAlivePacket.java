@@ -5,16 +5,14 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.LONG;
-
 public record KeepAlivePacket(long id) implements ServerPacket.Configuration, ServerPacket.Play {
     public KeepAlivePacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(LONG));
+        this(reader.readLong());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(LONG, id);
+        writer.writeLong(id);
     }
 
     @Override
@@ -8,7 +8,6 @@ import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.BLOCK_POSITION;
-import static net.minestom.server.network.NetworkBuffer.VAR_INT;
 
 public record BlockChangePacket(@NotNull Point blockPosition, int blockStateId) implements ServerPacket.Play {
     public BlockChangePacket(@NotNull Point blockPosition, @NotNull Block block) {
@@ -16,13 +15,13 @@ public record BlockChangePacket(@NotNull Point blockPosition, int blockStateId)
     }
 
     public BlockChangePacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(BLOCK_POSITION), reader.read(VAR_INT));
+        this(reader.read(BLOCK_POSITION), reader.readVarInt());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(BLOCK_POSITION, blockPosition);
-        writer.write(VAR_INT, blockStateId);
+        writer.writeVarInt(blockStateId);
     }
 
     @Override
@@ -5,18 +5,15 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.BYTE;
-import static net.minestom.server.network.NetworkBuffer.VAR_INT;
-
 public record EntityAnimationPacket(int entityId, @NotNull Animation animation) implements ServerPacket.Play {
     public EntityAnimationPacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(VAR_INT), Animation.values()[reader.read(BYTE)]);
+        this(reader.readVarInt(), Animation.values()[reader.readByte()]);
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(BYTE, (byte) animation.ordinal());
+        writer.writeVarInt(entityId);
+        writer.writeByte((byte) animation.ordinal());
     }
 
     @Override
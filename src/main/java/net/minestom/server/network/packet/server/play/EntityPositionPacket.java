@@ -6,22 +6,20 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.*;
-
 public record EntityPositionPacket(int entityId, short deltaX, short deltaY, short deltaZ, boolean onGround)
         implements ServerPacket.Play {
 
     public EntityPositionPacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(VAR_INT), reader.read(SHORT), reader.read(SHORT), reader.read(SHORT), reader.read(BOOLEAN));
+        this(reader.readVarInt(), reader.readShort(), reader.readShort(), reader.readShort(), reader.readBoolean());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(VAR_INT, entityId);
-        writer.write(SHORT, deltaX);
-        writer.write(SHORT, deltaY);
-        writer.write(SHORT, deltaZ);
-        writer.write(BOOLEAN, onGround);
+        writer.writeVarInt(entityId);
+        writer.writeShort(deltaX);
+        writer.writeShort(deltaY);
+        writer.writeShort(deltaZ);
+        writer.writeBoolean(onGround);
     }
 
     @Override
@@ -5,19 +5,16 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.FLOAT;
-import static net.minestom.server.network.NetworkBuffer.VAR_INT;
-
 public record SetExperiencePacket(float percentage, int level, int totalExperience) implements ServerPacket.Play {
     public SetExperiencePacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(FLOAT), reader.read(VAR_INT), reader.read(VAR_INT));
+        this(reader.readFloat(), reader.readVarInt(), reader.readVarInt());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(FLOAT, percentage);
-        writer.write(VAR_INT, level);
-        writer.write(VAR_INT, totalExperience);
+        writer.writeFloat(percentage);
+        writer.writeVarInt(level);
+        writer.writeVarInt(totalExperience);
     }
 
     @Override
@@ -5,17 +5,15 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import org.jetbrains.annotations.NotNull;
 
-import static net.minestom.server.network.NetworkBuffer.LONG;
-
 public record TimeUpdatePacket(long worldAge, long timeOfDay) implements ServerPacket.Play {
     public TimeUpdatePacket(@NotNull NetworkBuffer reader) {
-        this(reader.read(LONG), reader.read(LONG));
+        this(reader.readLong(), reader.readLong());
     }
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        writer.write(LONG, worldAge);
-        writer.write(LONG, timeOfDay);
+        writer.writeLong(worldAge);
+        writer.writeLong(timeOfDay);
     }
 
     @Override
@@ -0,0 +1,77 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.ByteBuffer;
+
+/**
+ * AES/CFB8 stream ciphers of an encrypted connection.
+ * <p>
+ * Data is processed in place through heap scratch arrays, as JCE ciphers given direct buffers
+ * allocate temporary arrays on every call and cannot work in place without copying.
+ * <p>
+ * Not thread-safe, only used from the connection worker.
+ */
+@ApiStatus.Internal
+public final class EncryptionContext {
+    private static final int SCRATCH_SIZE = 8192;
+
+    private final Cipher encrypt;
+    private final Cipher decrypt;
+    private final byte[] input = new byte[SCRATCH_SIZE];
+    private final byte[] output = new byte[SCRATCH_SIZE];
+
+    public EncryptionContext(@NotNull Cipher encrypt, @NotNull Cipher decrypt) {
+        this.encrypt = encrypt;
+        this.decrypt = decrypt;
+    }
+
+    public EncryptionContext(@NotNull SecretKey secretKey) {
+        this(MojangCrypt.getCipher(Cipher.ENCRYPT_MODE, secretKey), MojangCrypt.getCipher(Cipher.DECRYPT_MODE, secretKey));
+    }
+
+    /**
+     * Encrypts {@code length} bytes of {@code buffer} in place, starting at {@code index}.
+     *
+     * @param buffer the buffer to encrypt
+     * @param index  the absolute index of the first byte
+     * @param length the number of bytes
+     */
+    public void encrypt(@NotNull ByteBuffer buffer, int index, int length) {
+        crypt(encrypt, buffer, index, length);
+    }
+
+    /**
+     * Decrypts {@code length} bytes of {@code buffer} in place, starting at {@code index}.
+     *
+     * @param buffer the buffer to decrypt
+     * @param index  the absolute index of the first byte
+     * @param length the number of bytes
+     */
+    public void decrypt(@NotNull ByteBuffer buffer, int index, int length) {
+        crypt(decrypt, buffer, index, length);
+    }
+
+    private void crypt(Cipher cipher, ByteBuffer buffer, int index, int length) {
+        final byte[] input = this.input;
+        final byte[] output = this.output;
+        final int end = index + length;
+        try {
+            for (int offset = index; offset < end; offset += SCRATCH_SIZE) {
+                final int chunk = Math.min(SCRATCH_SIZE, end - offset);
+                buffer.get(offset, input, 0, chunk);
+                final int processed = cipher.update(input, 0, chunk, output, 0);
+                assert processed == chunk : "CFB8 must process every byte";
+                buffer.put(offset, output, 0, chunk);
+            }
+        } catch (ShortBufferException e) {
+            // Output is always as large as the input for a stream cipher
+            throw new IllegalStateException(e);
+        }
+    }
+}
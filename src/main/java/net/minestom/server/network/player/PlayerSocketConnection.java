@@ -1,38 +1,49 @@
 package net.minestom.server.network.player;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketOutEvent;
-import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.monitoring.PacketStatistics;
+import net.minestom.server.network.BackpressurePolicy;
+import net.minestom.server.network.ConnectionManager;
+import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.compression.PacketCompressor;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
 import net.minestom.server.network.packet.server.*;
 import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.socket.DecodePipeline;
+import net.minestom.server.network.socket.HandshakeLimiter;
 import net.minestom.server.network.socket.Worker;
+import net.minestom.server.utils.BufferPool;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
-import javax.crypto.ShortBufferException;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SocketChannel;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.DataFormatException;
 
@@ -44,14 +55,17 @@ import java.util.zip.DataFormatException;
 @ApiStatus.Internal
 public class PlayerSocketConnection extends PlayerConnection {
     private final static Logger LOGGER = LoggerFactory.getLogger(PlayerSocketConnection.class);
-    private static final ObjectPool<BinaryBuffer> POOL = ObjectPool.BUFFER_POOL;
+    private static final BufferPool POOL = BufferPool.CONNECTION_POOL;
 
     private final Worker worker;
     private final MessagePassingQueue<Runnable> workerQueue;
     private final SocketChannel channel;
     private SocketAddress remoteAddress;
+    // Address of the socket peer, proxies may later forward a different remote address
+    private final @Nullable InetAddress peerAddress;
 
     private volatile boolean compressed = false;
+    private volatile PacketCompressor compressor = MinecraftServer.getPacketCompressor();
 
     //Could be null. Only used for Mojang Auth
     private volatile EncryptionContext encryptionContext;
@@ -64,10 +78,25 @@ public class PlayerSocketConnection extends PlayerConnection {
     private int serverPort;
     private int protocolVersion;
 
+    // Outbound backpressure
+    private volatile long outboundBudget = ServerFlag.OUTBOUND_BUDGET;
+    private volatile @Nullable BackpressurePolicy backpressurePolicy;
+    // Only written by the worker thread
+    private volatile long queuedBytes;
+    private volatile long droppedPackets;
+
     private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
     private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
     private BinaryBuffer cacheBuffer;
 
+    // Pipelined decoding, only one pipeline task drains the queue at a time to keep the packet order
+    private final MessagePassingQueue<PendingPacket> decodeQueue = new MpscUnboundedArrayQueue<>(16);
+    private final AtomicInteger decodeQueueSize = new AtomicInteger();
+    private final AtomicBoolean decoding = new AtomicBoolean();
+
+    // Inbound counters written by the decoding thread, outbound ones by the worker thread
+    private final PacketStatistics packetStatistics = PacketStatistics.singleWriter();
+
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
     public PlayerSocketConnection(@NotNull Worker worker, @NotNull SocketChannel channel, SocketAddress remoteAddress) {
@@ -76,38 +105,37 @@ public class PlayerSocketConnection extends PlayerConnection {
         this.workerQueue = worker.queue();
         this.channel = channel;
         this.remoteAddress = remoteAddress;
+        this.peerAddress = remoteAddress instanceof InetSocketAddress inet ? inet.getAddress() : null;
     }
 
-    public void processPackets(BinaryBuffer readBuffer, PacketProcessor packetProcessor) {
+    /**
+     * Decrypts and processes the packets in {@code readBuffer}.
+     *
+     * @param readBuffer      the buffer containing the data from {@link #consumeCache(BinaryBuffer)} followed by the socket data
+     * @param readOffset      the index of the first byte read from the socket, the cached bytes are already decrypted
+     * @param packetProcessor the packet processor
+     */
+    public void processPackets(BinaryBuffer readBuffer, int readOffset, PacketProcessor packetProcessor) {
         // Decrypt data
         {
             final EncryptionContext encryptionContext = this.encryptionContext;
             if (encryptionContext != null) {
-                ByteBuffer input = readBuffer.asByteBuffer(0, readBuffer.writerOffset());
-                try {
-                    encryptionContext.decrypt().update(input, input.duplicate());
-                } catch (ShortBufferException e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                    return;
-                }
+                encryptionContext.decrypt(readBuffer.asByteBuffer(), readOffset, readBuffer.writerOffset() - readOffset);
             }
         }
         // Read all packets
+        final Worker.Context context = worker.context();
+        final DecodePipeline pipeline = worker.decodePipeline();
         try {
             this.cacheBuffer = PacketUtils.readPackets(readBuffer, compressed,
-                    (id, payload) -> {
+                    context.inflater(), context.contentBuffer(),
+                    (id, payload, frameSize) -> {
                         if (!isOnline())
                             return; // Prevent packet corruption
-                        ClientPacket packet = null;
-                        try {
-                            packet = packetProcessor.process(this, id, payload);
-                        } catch (Exception e) {
-                            // Error while reading the packet
-                            MinecraftServer.getExceptionManager().handleException(e);
-                        } finally {
-                            if (payload.position() != payload.limit()) {
-                                LOGGER.warn("WARNING: Packet ({}) 0x{} not fully read ({}) {}", getConnectionState(), Integer.toHexString(id), payload, packet);
-                            }
+                        if (pipeline != null) {
+                            queueDecode(pipeline, packetProcessor, id, payload, frameSize);
+                        } else {
+                            processPacket(packetProcessor, id, payload, frameSize);
                         }
                     });
         } catch (DataFormatException e) {
@@ -116,6 +144,91 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
+    private void processPacket(PacketProcessor packetProcessor, int id, ByteBuffer payload, int frameSize) {
+        // Read at decode time, the previous packet of the same read may have changed the state (e.g. handshake)
+        final ConnectionState state = getConnectionState();
+        final HandshakeLimiter limiter = worker.handshakeLimiter();
+        if (limiter != null && peerAddress != null &&
+                (state == ConnectionState.HANDSHAKE || state == ConnectionState.STATUS) &&
+                !limiter.tryAcquire(peerAddress)) {
+            disconnect();
+            return;
+        }
+        recordPacket(PacketStatistics.Direction.INBOUND, state, id, payload.remaining(), frameSize);
+        ClientPacket packet = null;
+        try {
+            packet = packetProcessor.process(this, id, payload);
+        } catch (Exception e) {
+            // Error while reading the packet
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            if (payload.position() != payload.limit()) {
+                LOGGER.warn("WARNING: Packet ({}) 0x{} not fully read ({}) {}", getConnectionState(), Integer.toHexString(id), payload, packet);
+            }
+        }
+    }
+
+    private void queueDecode(DecodePipeline pipeline, PacketProcessor packetProcessor, int id, ByteBuffer payload, int frameSize) {
+        if (decodeQueueSize.incrementAndGet() > ServerFlag.PLAYER_PACKET_QUEUE_SIZE) {
+            // Same limit as the player packet queue
+            decodeQueueSize.decrementAndGet();
+            disconnect();
+            return;
+        }
+        // The payload is a view of the worker buffer
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        this.decodeQueue.offer(new PendingPacket(id, bytes, frameSize, System.nanoTime()));
+        pipeline.queued();
+        if (decoding.compareAndSet(false, true)) {
+            pipeline.execute(() -> drainDecodeQueue(pipeline, packetProcessor));
+        }
+    }
+
+    private void drainDecodeQueue(DecodePipeline pipeline, PacketProcessor packetProcessor) {
+        do {
+            PendingPacket packet;
+            while ((packet = decodeQueue.poll()) != null) {
+                this.decodeQueueSize.decrementAndGet();
+                if (isOnline()) processPacket(packetProcessor, packet.id(), ByteBuffer.wrap(packet.payload()), packet.frameSize());
+                pipeline.decoded(System.nanoTime() - packet.time());
+            }
+            this.decoding.set(false);
+            // Packets may have been queued before the flag reset
+        } while (!decodeQueue.isEmpty() && decoding.compareAndSet(false, true));
+    }
+
+    /**
+     * Gets the number of packets waiting to be decoded by the {@link DecodePipeline}.
+     *
+     * @return the decode queue depth
+     */
+    public int getDecodeQueueSize() {
+        return decodeQueueSize.get();
+    }
+
+    /**
+     * Gets the packet counters of this connection.
+     * <p>
+     * Packets grouped with {@link PacketUtils#prepareViewablePacket} are not included.
+     *
+     * @return the packet statistics
+     */
+    public @NotNull PacketStatistics getPacketStatistics() {
+        return packetStatistics;
+    }
+
+    private void recordPacket(PacketStatistics.Direction direction, ConnectionState state, int id, int rawBytes, int compressedBytes) {
+        this.packetStatistics.record(direction, state, id, 1, rawBytes, compressedBytes);
+        PacketStatistics.global().record(direction, state, id, 1, rawBytes, compressedBytes);
+    }
+
+    private void recordOutbound(ServerPacket packet, ByteBuffer buffer, int index, int length, boolean compressed) {
+        final ConnectionState state = getConnectionState();
+        recordPacket(PacketStatistics.Direction.OUTBOUND, state, packet.getId(state),
+                PacketUtils.framedPacketSize(buffer, index, compressed), length);
+    }
+
     public void consumeCache(BinaryBuffer buffer) {
         final BinaryBuffer cache = this.cacheBuffer;
         if (cache != null) {
@@ -132,7 +245,7 @@ public class PlayerSocketConnection extends PlayerConnection {
      */
     public void setEncryptionKey(@NotNull SecretKey secretKey) {
         Check.stateCondition(encryptionContext != null, "Encryption is already enabled!");
-        this.encryptionContext = new EncryptionContext(MojangCrypt.getCipher(1, secretKey), MojangCrypt.getCipher(2, secretKey));
+        this.encryptionContext = new EncryptionContext(secretKey);
     }
 
     /**
@@ -148,6 +261,67 @@ public class PlayerSocketConnection extends PlayerConnection {
         this.compressed = true;
     }
 
+    /**
+     * Gets the compressor used for the packets of this connection.
+     *
+     * @return the packet compressor
+     */
+    public @NotNull PacketCompressor getPacketCompressor() {
+        return compressor;
+    }
+
+    /**
+     * Changes the compressor used for the packets of this connection.
+     * <p>
+     * Packets already sent or cached (e.g. {@link CachedPacket}) are not affected.
+     *
+     * @param compressor the new packet compressor
+     */
+    public void setPacketCompressor(@NotNull PacketCompressor compressor) {
+        this.compressor = compressor;
+    }
+
+    /**
+     * Gets the number of bytes waiting to be written to the socket.
+     *
+     * @return the queued bytes
+     */
+    public long getQueuedBytes() {
+        return queuedBytes;
+    }
+
+    /**
+     * Gets the number of packets dropped by the {@link BackpressurePolicy}.
+     *
+     * @return the dropped packet count
+     */
+    public long getDroppedPackets() {
+        return droppedPackets;
+    }
+
+    public long getOutboundBudget() {
+        return outboundBudget;
+    }
+
+    /**
+     * Changes the number of queued bytes after which the {@link BackpressurePolicy} is applied.
+     *
+     * @param outboundBudget the new budget in bytes
+     */
+    public void setOutboundBudget(long outboundBudget) {
+        Check.argCondition(outboundBudget <= 0, "The outbound budget must be positive");
+        this.outboundBudget = outboundBudget;
+    }
+
+    /**
+     * Overrides the {@link ConnectionManager#getBackpressurePolicy()} for this connection.
+     *
+     * @param backpressurePolicy the policy, null to use the connection manager one
+     */
+    public void setBackpressurePolicy(@Nullable BackpressurePolicy backpressurePolicy) {
+        this.backpressurePolicy = backpressurePolicy;
+    }
+
     @Override
     public void sendPacket(@NotNull SendablePacket packet) {
         final boolean compressed = this.compressed;
@@ -168,6 +342,29 @@ public class PlayerSocketConnection extends PlayerConnection {
         this.workerQueue.relaxedOffer(() -> writeBufferSync(buffer, index, length));
     }
 
+    /**
+     * Writes a region of a shared buffer containing grouped packets.
+     * <p>
+     * Once the outbound budget is exceeded, the {@link BackpressurePolicy} is applied to each packet of the region.
+     *
+     * @param buffer   the buffer to copy from, must not be modified until {@code callback} is run
+     * @param index    the index of the first byte, must be the start of a packet
+     * @param length   the number of bytes, must end with a packet
+     * @param packets  the packets framed in {@code buffer}
+     * @param callback run once the data has been copied, or discarded if the connection is closed
+     */
+    @ApiStatus.Internal
+    public void write(@NotNull ByteBuffer buffer, int index, int length,
+                      @NotNull PacketUtils.GroupedPackets packets, @NotNull Runnable callback) {
+        this.workerQueue.relaxedOffer(() -> {
+            try {
+                writeGroupedSync(buffer, index, length, packets);
+            } finally {
+                callback.run();
+            }
+        });
+    }
+
     @ApiStatus.Internal
     public void write(@NotNull ByteBuffer buffer) {
         write(buffer, buffer.position(), buffer.remaining());
@@ -199,6 +396,7 @@ public class PlayerSocketConnection extends PlayerConnection {
             if (tick != null) POOL.add(tick);
             for (BinaryBuffer buffer : waitingBuffers) POOL.add(buffer);
             this.waitingBuffers.clear();
+            this.queuedBytes = 0;
         });
     }
 
@@ -291,6 +489,9 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private void writePacketSync(SendablePacket packet, boolean compressed) {
         if (!channel.isConnected()) return;
+        // Backpressure
+        final long queuedBytes = this.queuedBytes;
+        if (queuedBytes > outboundBudget && !acceptBackpressure(packet, queuedBytes)) return;
         final Player player = getPlayer();
         // Outgoing event
         if (player != null && outgoing.hasListener()) {
@@ -304,11 +505,17 @@ public class PlayerSocketConnection extends PlayerConnection {
             writeServerPacketSync(serverPacket, compressed);
         } else if (packet instanceof FramedPacket framedPacket) {
             var buffer = framedPacket.body();
+            recordOutbound(framedPacket.packet(), buffer, 0, buffer.limit(), compressed);
             writeBufferSync(buffer, 0, buffer.limit());
         } else if (packet instanceof CachedPacket cachedPacket) {
-            var buffer = cachedPacket.body(getConnectionState());
-            if (buffer != null) writeBufferSync(buffer, buffer.position(), buffer.remaining());
-            else writeServerPacketSync(cachedPacket.packet(getConnectionState()), compressed);
+            // Cached bodies are framed using the server compression threshold
+            final boolean serverCompression = MinecraftServer.getCompressionThreshold() > 0;
+            var framed = compressed == serverCompression ? cachedPacket.framedPacket(getConnectionState()) : null;
+            if (framed != null) {
+                var buffer = framed.body();
+                recordOutbound(framed.packet(), buffer, buffer.position(), buffer.remaining(), compressed);
+                writeBufferSync(buffer, buffer.position(), buffer.remaining());
+            } else writeServerPacketSync(cachedPacket.rawPacket(), compressed);
         } else if (packet instanceof LazyPacket lazyPacket) {
             writeServerPacketSync(lazyPacket.packet(), compressed);
         } else {
@@ -316,6 +523,48 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
+    private boolean acceptBackpressure(SendablePacket packet, long queuedBytes) {
+        BackpressurePolicy policy = this.backpressurePolicy;
+        if (policy == null) policy = MinecraftServer.getConnectionManager().getBackpressurePolicy();
+        final ServerPacket serverPacket = SendablePacket.extractServerPacket(getConnectionState(), packet);
+        return switch (policy.onBudgetExceeded(this, serverPacket, queuedBytes)) {
+            case SEND -> true;
+            case DROP -> {
+                this.droppedPackets++;
+                yield false;
+            }
+            case DISCONNECT -> {
+                this.droppedPackets++;
+                disconnect();
+                yield false;
+            }
+        };
+    }
+
+    private void writeGroupedSync(ByteBuffer buffer, int index, int length, PacketUtils.GroupedPackets packets) {
+        if (!channel.isConnected()) return;
+        if (queuedBytes <= outboundBudget) {
+            writeBufferSync(buffer, index, length);
+            return;
+        }
+        // Budget exceeded, only write the packets accepted by the policy
+        final int[] offsets = packets.offsets();
+        final int end = index + length;
+        int i = Arrays.binarySearch(offsets, index);
+        if (i < 0) i = -i - 1;
+        int writeStart = index;
+        for (; i < offsets.length && offsets[i] < end; i++) {
+            final int start = offsets[i];
+            // Include the accepted packets not yet written
+            final long queuedBytes = this.queuedBytes + (start - writeStart);
+            if (queuedBytes <= outboundBudget || acceptBackpressure(packets.packets()[i], queuedBytes)) continue;
+            if (start != writeStart) writeBufferSync(buffer, writeStart, start - writeStart);
+            if (!isOnline()) return;
+            writeStart = packets.end(i);
+        }
+        if (writeStart < end) writeBufferSync(buffer, writeStart, end - writeStart);
+    }
+
     private void writeServerPacketSync(ServerPacket serverPacket, boolean compressed) {
         final Player player = getPlayer();
         if (player != null) {
@@ -325,76 +574,121 @@ public class PlayerSocketConnection extends PlayerConnection {
             }
         }
         try (var hold = ObjectPool.PACKET_POOL.hold()) {
-            var buffer = PacketUtils.createFramedPacket(getConnectionState(), hold.get(), serverPacket, compressed);
+            var buffer = PacketUtils.createFramedPacket(getConnectionState(), hold.get(), serverPacket, compressed, compressor);
+            recordOutbound(serverPacket, buffer, 0, buffer.limit(), compressed);
             writeBufferSync(buffer, 0, buffer.limit());
         }
     }
 
     private void writeBufferSync(@NotNull ByteBuffer buffer, int index, int length) {
-        // Encrypt data
-        final EncryptionContext encryptionContext = this.encryptionContext;
-        if (encryptionContext != null) { // Encryption support
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                ByteBuffer output = hold.get();
-                try {
-                    length = encryptionContext.encrypt().update(buffer.slice(index, length), output);
-                    writeBufferSync0(output, 0, length);
-                } catch (ShortBufferException e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-                return;
-            }
-        }
-        writeBufferSync0(buffer, index, length);
-    }
-
-    private void writeBufferSync0(@NotNull ByteBuffer buffer, int index, int length) {
         BinaryBuffer localBuffer = tickBuffer.getPlain();
         if (localBuffer == null)
             return; // Socket is closed
-        final int capacity = localBuffer.capacity();
-        if (length <= capacity) {
-            if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
-            localBuffer.write(buffer, index, length);
-        } else {
-            final int bufferCount = length / capacity + 1;
-            for (int i = 0; i < bufferCount; i++) {
-                final int sliceStart = i * capacity;
-                final int sliceLength = Math.min(length, sliceStart + capacity) - sliceStart;
-                if (!localBuffer.canWrite(sliceLength)) localBuffer = updateLocalBuffer();
-                localBuffer.write(buffer, sliceStart, sliceLength);
-            }
+        this.queuedBytes += length;
+        this.worker.pending(this);
+        if (localBuffer.canWrite(length)) {
+            writeLocalBuffer(localBuffer, buffer, index, length);
+            return;
+        }
+        // Split the data over buffers of the largest size class if needed
+        final int sliceCapacity = POOL.maxSize() - 1;
+        int offset = 0;
+        while (offset < length) {
+            final int sliceLength = Math.min(sliceCapacity, length - offset);
+            if (!localBuffer.canWrite(sliceLength)) localBuffer = updateLocalBuffer(sliceLength);
+            writeLocalBuffer(localBuffer, buffer, index + offset, sliceLength);
+            offset += sliceLength;
         }
     }
 
-    public void flushSync() throws IOException {
+    private void writeLocalBuffer(BinaryBuffer localBuffer, ByteBuffer buffer, int index, int length) {
+        final int start = localBuffer.writerOffset();
+        localBuffer.write(buffer, index, length);
+        // Encrypt the copy, the source buffer may be shared with other connections
+        final EncryptionContext encryptionContext = this.encryptionContext;
+        if (encryptionContext != null) encryptionContext.encrypt(localBuffer.asByteBuffer(), start, length);
+    }
+
+    /**
+     * Writes as much pending data as possible to the socket.
+     * <p>
+     * All the waiting buffers are written using a single gathering write.
+     *
+     * @return true if all the pending data has been written, false if the socket is backpressured
+     * @throws IOException if the socket is closed
+     */
+    public boolean flushSync() throws IOException {
         final SocketChannel channel = this.channel;
         final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
         if (!channel.isConnected()) throw new ClosedChannelException();
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        if (localBuffer == null)
+            return true; // Socket is closed
+        final Worker.Context context = worker.context();
         if (waitingBuffers.isEmpty()) {
-            BinaryBuffer localBuffer = tickBuffer.getPlain();
-            if (localBuffer == null)
-                return; // Socket is closed
-            localBuffer.writeChannel(channel);
-        } else {
-            // Write as much as possible from the waiting list
-            Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
-            while (iterator.hasNext()) {
-                BinaryBuffer waitingBuffer = iterator.next();
-                if (!waitingBuffer.writeChannel(channel)) break;
-                iterator.remove();
-                POOL.add(waitingBuffer);
-            }
+            final int length = localBuffer.readableBytes();
+            if (length == 0) return true;
+            final boolean flushed = localBuffer.writeChannel(channel);
+            final int written = length - localBuffer.readableBytes();
+            context.recordWrite(written);
+            this.queuedBytes -= written;
+            if (flushed) resetLocalBuffer(localBuffer);
+            return flushed;
+        }
+        // Write the waiting list and the tick buffer at once
+        final int count = waitingBuffers.size();
+        final ByteBuffer[] buffers = context.gatherBuffers(count + 1);
+        for (int i = 0; i < count; i++) buffers[i] = waitingBuffers.get(i).readableByteBuffer();
+        buffers[count] = localBuffer.readableByteBuffer();
+        final long written;
+        try {
+            written = channel.write(buffers, 0, count + 1);
+        } finally {
+            Arrays.fill(buffers, 0, count + 1, null);
+        }
+        context.recordWrite(written);
+        this.queuedBytes -= written;
+        // Consume the written bytes, starting from the oldest buffer
+        long remaining = written;
+        Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
+        while (iterator.hasNext() && remaining > 0) {
+            BinaryBuffer waitingBuffer = iterator.next();
+            final int consumed = (int) Math.min(remaining, waitingBuffer.readableBytes());
+            waitingBuffer.readerOffset(waitingBuffer.readerOffset() + consumed);
+            remaining -= consumed;
+            if (waitingBuffer.readableBytes() > 0) break;
+            iterator.remove();
+            POOL.add(waitingBuffer);
         }
+        if (remaining > 0) localBuffer.readerOffset(localBuffer.readerOffset() + (int) remaining);
+        final boolean flushed = waitingBuffers.isEmpty() && localBuffer.readableBytes() == 0;
+        if (flushed) resetLocalBuffer(localBuffer);
+        return flushed;
+    }
+
+    private record PendingPacket(int id, byte[] payload, int frameSize, long time) {
     }
 
-    private BinaryBuffer updateLocalBuffer() {
-        BinaryBuffer newBuffer = POOL.get();
-        this.waitingBuffers.add(tickBuffer.getPlain());
+    private BinaryBuffer updateLocalBuffer(int length) {
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        // Grow to the next size class, a connection filling its buffer is likely to keep doing so
+        BinaryBuffer newBuffer = POOL.get(Math.max(length, localBuffer.capacity()));
+        if (localBuffer.readableBytes() > 0) {
+            this.waitingBuffers.add(localBuffer);
+        } else {
+            POOL.add(localBuffer);
+        }
         this.tickBuffer.setPlain(newBuffer);
         return newBuffer;
     }
 
-    record EncryptionContext(Cipher encrypt, Cipher decrypt) {
+    private void resetLocalBuffer(BinaryBuffer localBuffer) {
+        final int used = localBuffer.writerOffset();
+        localBuffer.clear();
+        // Shrink back to the smallest size class able to hold the last flushed data
+        if (POOL.classSize(used) < localBuffer.capacity()) {
+            this.tickBuffer.setPlain(POOL.get(used));
+            POOL.add(localBuffer);
+        }
     }
 }
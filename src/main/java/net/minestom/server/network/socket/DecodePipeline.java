@@ -0,0 +1,79 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.monitoring.LatencyHistogram;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool decoding inbound packets outside the {@link Worker workers}.
+ * <p>
+ * Workers still read and frame packets, connections then decode them in order on this pool
+ * so that a slow packet only delays its own connection.
+ * Enabled with {@link net.minestom.server.ServerFlag#PIPELINED_DECODE}.
+ */
+@ApiStatus.Experimental
+public final class DecodePipeline {
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final ExecutorService executor;
+    private final LatencyHistogram decodeLatency = new LatencyHistogram();
+    private final LongAdder queuedPackets = new LongAdder();
+
+    DecodePipeline(int threads) {
+        Check.argCondition(threads <= 0, "The decode thread count must be positive");
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Ms-decoder-" + COUNTER.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @ApiStatus.Internal
+    public void execute(@NotNull Runnable runnable) {
+        this.executor.execute(runnable);
+    }
+
+    @ApiStatus.Internal
+    public void queued() {
+        this.queuedPackets.increment();
+    }
+
+    /**
+     * Records a decoded packet.
+     *
+     * @param nanos the time since the packet has been framed
+     */
+    @ApiStatus.Internal
+    public void decoded(long nanos) {
+        this.queuedPackets.decrement();
+        this.decodeLatency.record(nanos);
+    }
+
+    /**
+     * Gets the time between the framing of packets by the workers and the end of their processing.
+     *
+     * @return the decode latency histogram
+     */
+    public @NotNull LatencyHistogram decodeLatency() {
+        return decodeLatency;
+    }
+
+    /**
+     * Gets the number of framed packets waiting to be decoded, across all connections.
+     *
+     * @return the total queue depth
+     */
+    public long queuedPackets() {
+        return queuedPackets.sum();
+    }
+
+    void close() {
+        this.executor.shutdown();
+    }
+}
@@ -0,0 +1,62 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.network.player.PlayerSocketConnection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+final class FlushListTransport implements Transport {
+    static final FlushListTransport INSTANCE = new FlushListTransport();
+
+    private FlushListTransport() {
+    }
+
+    @Override
+    public @NotNull Driver driver(@NotNull Worker worker) {
+        return new FlushListDriver(worker);
+    }
+
+    private static final class FlushListDriver implements Driver {
+        private final Worker worker;
+        // Only accessed by the worker thread
+        private final Set<PlayerSocketConnection> flushList = new LinkedHashSet<>();
+
+        FlushListDriver(Worker worker) {
+            this.worker = worker;
+        }
+
+        @Override
+        public void tick() {
+            // Idle workers are left asleep
+            if (!worker.queue().isEmpty()) worker.wakeup();
+        }
+
+        @Override
+        public void pending(@NotNull PlayerSocketConnection connection) {
+            this.flushList.add(connection);
+        }
+
+        @Override
+        public void remove(@NotNull PlayerSocketConnection connection) {
+            this.flushList.remove(connection);
+        }
+
+        @Override
+        public void flush() {
+            final Set<PlayerSocketConnection> flushList = this.flushList;
+            if (flushList.isEmpty()) return;
+            // Backpressured connections are flushed once their socket becomes writable
+            for (PlayerSocketConnection connection : flushList) {
+                // Disconnected connections are flushed one last time when closed
+                if (connection.isOnline() && connection.getChannel().isOpen()) worker.flush(connection);
+            }
+            flushList.clear();
+        }
+
+        @Override
+        public boolean edgeTriggered() {
+            return true;
+        }
+    }
+}
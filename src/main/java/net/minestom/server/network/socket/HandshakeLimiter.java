@@ -0,0 +1,85 @@
+package net.minestom.server.network.socket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-address token bucket applied to the handshake and status packets when they are decoded,
+ * floods are dropped before reaching the {@link net.minestom.server.network.PacketProcessor}.
+ * <p>
+ * Enabled with {@link net.minestom.server.ServerFlag#HANDSHAKE_RATE}.
+ */
+@ApiStatus.Experimental
+public final class HandshakeLimiter {
+    private final double permitsPerNano;
+    private final int burst;
+    private final Cache<InetAddress, Bucket> buckets;
+    private final LongAdder droppedPackets = new LongAdder();
+
+    /**
+     * @param rate  the number of packets allowed per second for each address
+     * @param burst the number of packets an idle address can send at once
+     */
+    public HandshakeLimiter(double rate, int burst) {
+        Check.argCondition(rate <= 0, "The handshake rate must be positive");
+        Check.argCondition(burst <= 0, "The handshake burst must be positive");
+        this.permitsPerNano = rate / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        // An address idle for longer than this has a full bucket anyway
+        final long refillNanos = (long) Math.ceil(burst / permitsPerNano);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(refillNanos))
+                .build();
+    }
+
+    /**
+     * Takes a permit for {@code address}.
+     *
+     * @param address the address of the remote peer
+     * @return true if the packet can be processed, false if it should be dropped
+     */
+    public boolean tryAcquire(@NotNull InetAddress address) {
+        final Bucket bucket = buckets.get(address, a -> new Bucket(burst, System.nanoTime()));
+        final boolean acquired;
+        synchronized (bucket) {
+            acquired = bucket.tryAcquire(System.nanoTime());
+        }
+        if (!acquired) droppedPackets.increment();
+        return acquired;
+    }
+
+    /**
+     * Gets the number of packets dropped since the server started.
+     *
+     * @return the dropped packet count
+     */
+    public long droppedPackets() {
+        return droppedPackets.sum();
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long lastRefill;
+
+        Bucket(double tokens, long lastRefill) {
+            this.tokens = tokens;
+            this.lastRefill = lastRefill;
+        }
+
+        boolean tryAcquire(long now) {
+            this.tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+            this.lastRefill = now;
+            if (tokens < 1) return false;
+            this.tokens--;
+            return true;
+        }
+    }
+}
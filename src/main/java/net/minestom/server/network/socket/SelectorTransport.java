@@ -0,0 +1,43 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.network.player.PlayerSocketConnection;
+import org.jetbrains.annotations.NotNull;
+
+final class SelectorTransport implements Transport {
+    static final SelectorTransport INSTANCE = new SelectorTransport();
+
+    private SelectorTransport() {
+    }
+
+    @Override
+    public @NotNull Driver driver(@NotNull Worker worker) {
+        return new Driver() {
+            @Override
+            public void tick() {
+                worker.wakeup();
+            }
+
+            @Override
+            public void pending(@NotNull PlayerSocketConnection connection) {
+                // Every connection is flushed
+            }
+
+            @Override
+            public void remove(@NotNull PlayerSocketConnection connection) {
+                // Closed connections are removed from the worker
+            }
+
+            @Override
+            public void flush() {
+                for (PlayerSocketConnection connection : worker.connections()) {
+                    worker.flush(connection);
+                }
+            }
+
+            @Override
+            public boolean edgeTriggered() {
+                return false;
+            }
+        };
+    }
+}
@@ -5,6 +5,7 @@ import net.minestom.server.ServerFlag;
 import net.minestom.server.network.PacketProcessor;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.net.*;
@@ -15,6 +16,7 @@ import java.nio.channels.SocketChannel;
 import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +30,10 @@ public final class Server {
 
     private final Selector selector = Selector.open();
     private final PacketProcessor packetProcessor;
+    private final Transport transport;
+    private final DecodePipeline decodePipeline;
+    private final HandshakeLimiter handshakeLimiter = ServerFlag.HANDSHAKE_RATE > 0 ?
+            new HandshakeLimiter(ServerFlag.HANDSHAKE_RATE, ServerFlag.HANDSHAKE_BURST) : null;
     private final List<Worker> workers;
     private int index;
 
@@ -37,9 +43,20 @@ public final class Server {
     private int port;
 
     public Server(PacketProcessor packetProcessor) throws IOException {
+        this(packetProcessor, defaultTransport());
+    }
+
+    public Server(@NotNull PacketProcessor packetProcessor, @NotNull Transport transport) throws IOException {
+        this(packetProcessor, transport, ServerFlag.PIPELINED_DECODE ? new DecodePipeline(ServerFlag.DECODE_THREADS) : null);
+    }
+
+    Server(@NotNull PacketProcessor packetProcessor, @NotNull Transport transport,
+           @Nullable DecodePipeline decodePipeline) throws IOException {
         this.packetProcessor = packetProcessor;
+        this.transport = transport;
+        this.decodePipeline = decodePipeline;
         Worker[] workers = new Worker[ServerFlag.WORKER_COUNT];
-        Arrays.setAll(workers, value -> new Worker(this));
+        Arrays.setAll(workers, value -> new Worker(this, transport));
         this.workers = List.of(workers);
     }
 
@@ -124,6 +141,7 @@ public final class Server {
             System.exit(-1);
         }
         this.workers.forEach(Worker::close);
+        if (decodePipeline != null) this.decodePipeline.close();
     }
 
     @ApiStatus.Internal
@@ -131,6 +149,44 @@ public final class Server {
         return packetProcessor;
     }
 
+    public @NotNull Transport transport() {
+        return transport;
+    }
+
+    /**
+     * Gets the pool decoding inbound packets.
+     *
+     * @return the decode pipeline, null if packets are decoded by the workers
+     * @see ServerFlag#PIPELINED_DECODE
+     */
+    public @Nullable DecodePipeline decodePipeline() {
+        return decodePipeline;
+    }
+
+    /**
+     * Gets the limiter applied to the handshake and status packets.
+     *
+     * @return the handshake limiter, null if disabled
+     * @see ServerFlag#HANDSHAKE_RATE
+     */
+    public @Nullable HandshakeLimiter handshakeLimiter() {
+        return handshakeLimiter;
+    }
+
+    @ApiStatus.Internal
+    public @NotNull List<Worker> workers() {
+        return workers;
+    }
+
+    /**
+     * Gets the write counters of each worker.
+     *
+     * @return the statistics of each worker
+     */
+    public @NotNull List<Worker.Statistics> workerStatistics() {
+        return workers.stream().map(Worker::statistics).toList();
+    }
+
     public SocketAddress socketAddress() {
         return socketAddress;
     }
@@ -143,6 +199,14 @@ public final class Server {
         return port;
     }
 
+    private static Transport defaultTransport() {
+        return switch (ServerFlag.TRANSPORT.toLowerCase(Locale.ROOT)) {
+            case "selector" -> Transport.selector();
+            case "flush-list" -> Transport.flushList();
+            default -> throw new IllegalArgumentException("Unknown transport: " + ServerFlag.TRANSPORT);
+        };
+    }
+
     private Worker findWorker() {
         this.index = ++index % ServerFlag.WORKER_COUNT;
         return workers.get(index);
@@ -0,0 +1,74 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.network.player.PlayerSocketConnection;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines how the {@link Worker workers} of a {@link Server} wait for socket events and flush their connections.
+ */
+@ApiStatus.Experimental
+public interface Transport {
+    /**
+     * Gets the default transport, waking up every worker each tick to flush all of its connections.
+     *
+     * @return the selector transport
+     */
+    static @NotNull Transport selector() {
+        return SelectorTransport.INSTANCE;
+    }
+
+    /**
+     * Gets a transport tuned for many connections.
+     * <p>
+     * Workers are only woken up when they have pending work, only flush the connections with pending data,
+     * and drain sockets on each readiness event.
+     *
+     * @return the flush list transport
+     */
+    static @NotNull Transport flushList() {
+        return FlushListTransport.INSTANCE;
+    }
+
+    /**
+     * Creates the driver of a worker, called once per worker.
+     *
+     * @param worker the worker to drive
+     * @return a new driver
+     */
+    @NotNull Driver driver(@NotNull Worker worker);
+
+    interface Driver {
+        /**
+         * Called from the tick thread once per server tick.
+         */
+        void tick();
+
+        /**
+         * Called from the worker thread when data has been queued for a connection.
+         *
+         * @param connection the connection with pending data
+         */
+        void pending(@NotNull PlayerSocketConnection connection);
+
+        /**
+         * Called from the worker thread once a connection has been closed.
+         *
+         * @param connection the closed connection
+         */
+        void remove(@NotNull PlayerSocketConnection connection);
+
+        /**
+         * Called from the worker thread before waiting for socket events.
+         */
+        void flush();
+
+        /**
+         * Gets if sockets should be read until exhausted for each readiness event,
+         * instead of once per event.
+         *
+         * @return true to drain sockets
+         */
+        boolean edgeTriggered();
+    }
+}
@@ -4,23 +4,27 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.thread.MinestomThread;
-import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedXaddArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Inflater;
 
 @ApiStatus.Internal
 public final class Worker extends MinestomThread {
@@ -32,8 +36,13 @@ public final class Worker extends MinestomThread {
     private final Map<SocketChannel, PlayerSocketConnection> connectionMap = new ConcurrentHashMap<>();
     private final Server server;
     private final MpscUnboundedXaddArrayQueue<Runnable> queue = new MpscUnboundedXaddArrayQueue<>(1024);
+    private final Context context = new Context();
+    private final Transport.Driver driver;
 
-    Worker(Server server) {
+    // Only incremented by the tick thread
+    private volatile long tickCount, wakeupCount;
+
+    Worker(Server server, Transport transport) {
         super("Ms-worker-" + COUNTER.getAndIncrement());
         this.server = server;
         try {
@@ -41,9 +50,19 @@ public final class Worker extends MinestomThread {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        this.driver = transport.driver(this);
     }
 
     public void tick() {
+        this.tickCount++;
+        this.driver.tick();
+    }
+
+    /**
+     * Wakes up the worker to process its queue and flush its connections.
+     */
+    public void wakeup() {
+        this.wakeupCount++;
         this.selector.wakeup();
     }
 
@@ -71,19 +90,12 @@ public final class Worker extends MinestomThread {
                 } catch (Exception e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
-                // Flush all connections if needed
-                for (PlayerSocketConnection connection : connectionMap.values()) {
-                    try {
-                        connection.flushSync();
-                    } catch (Exception e) {
-                        connection.disconnect();
-                    }
-                }
+                // Flush connections if needed
+                this.driver.flush();
                 // Wait for an event
                 this.selector.select(key -> {
                     final SocketChannel channel = (SocketChannel) key.channel();
                     if (!channel.isOpen()) return;
-                    if (!key.isReadable()) return;
                     final PlayerSocketConnection connection = connectionMap.get(channel);
                     if (connection == null) {
                         try {
@@ -93,15 +105,21 @@ public final class Worker extends MinestomThread {
                         }
                         return;
                     }
+                    if (key.isWritable()) flush(connection, key);
+                    if (!key.isValid() || !key.isReadable()) return;
                     try {
-                        try (var holder = ObjectPool.PACKET_POOL.hold()) {
-                            BinaryBuffer readBuffer = BinaryBuffer.wrap(holder.get());
+                        final BinaryBuffer readBuffer = context.readBuffer;
+                        do {
+                            readBuffer.clear();
                             // Consume last incomplete packet
                             connection.consumeCache(readBuffer);
                             // Read & process
+                            final int readOffset = readBuffer.writerOffset();
                             readBuffer.readChannel(channel);
-                            connection.processPackets(readBuffer, server.packetProcessor());
-                        }
+                            connection.processPackets(readBuffer, readOffset, server.packetProcessor());
+                            // A full buffer means that the socket may still have data
+                        } while (driver.edgeTriggered() && connection.isOnline() &&
+                                readBuffer.writerOffset() == readBuffer.capacity());
                     } catch (IOException e) {
                         // TODO print exception? (should ignore disconnection)
                         connection.disconnect();
@@ -114,12 +132,65 @@ public final class Worker extends MinestomThread {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
         }
+        this.context.inflater.end();
+    }
+
+    /**
+     * Flushes a connection, unless it is waiting for its socket to become writable.
+     *
+     * @param connection the connection to flush
+     */
+    public void flush(@NotNull PlayerSocketConnection connection) {
+        assert Thread.currentThread() == this;
+        final SelectionKey key = connection.getChannel().keyFor(selector);
+        if (key != null && key.isValid() && (key.interestOps() & SelectionKey.OP_WRITE) != 0) return;
+        flush(connection, key);
+    }
+
+    /**
+     * Notifies the transport that data has been queued for a connection.
+     *
+     * @param connection the connection with pending data
+     */
+    public void pending(@NotNull PlayerSocketConnection connection) {
+        assert Thread.currentThread() == this;
+        this.driver.pending(connection);
+    }
+
+    /**
+     * Gets the connections handled by this worker.
+     *
+     * @return the worker connections
+     */
+    public @NotNull Collection<PlayerSocketConnection> connections() {
+        return connectionMap.values();
+    }
+
+    private void flush(PlayerSocketConnection connection, SelectionKey key) {
+        try {
+            final boolean flushed = connection.flushSync();
+            // Only listen to write readiness when the socket cannot accept more data
+            final int interestOps = flushed ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+            if (key != null && key.interestOps() != interestOps) key.interestOps(interestOps);
+        } catch (Exception e) {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Gets the write counters of this worker since its creation.
+     *
+     * @return a snapshot of the counters
+     */
+    public @NotNull Statistics statistics() {
+        return new Statistics(tickCount, wakeupCount, context.writeCount, context.writtenBytes);
     }
 
     public void disconnect(PlayerSocketConnection connection, SocketChannel channel) {
         assert !connection.isOnline();
         assert Thread.currentThread() == this;
         this.connectionMap.remove(channel);
+        this.driver.remove(connection);
         if (channel.isOpen()) {
             try {
                 connection.flushSync();
@@ -143,7 +214,102 @@ public final class Worker extends MinestomThread {
         }
     }
 
+    /**
+     * Gets the pool decoding the packets framed by this worker.
+     *
+     * @return the decode pipeline, null if packets are decoded by the worker
+     */
+    public @Nullable DecodePipeline decodePipeline() {
+        return server.decodePipeline();
+    }
+
+    /**
+     * Gets the limiter applied to the handshake and status packets read by this worker.
+     *
+     * @return the handshake limiter, null if disabled
+     */
+    public @Nullable HandshakeLimiter handshakeLimiter() {
+        return server.handshakeLimiter();
+    }
+
     public MessagePassingQueue<Runnable> queue() {
         return queue;
     }
+
+    /**
+     * Gets the state shared by all the connections of this worker.
+     * <p>
+     * Must only be accessed from the worker thread.
+     *
+     * @return the worker context
+     */
+    public @NotNull Context context() {
+        assert Thread.currentThread() == this;
+        return context;
+    }
+
+    /**
+     * Buffers and zlib state reused for every read and write of this worker,
+     * preventing the allocation of native memory for each inbound packet.
+     */
+    public static final class Context {
+        final BinaryBuffer readBuffer = BinaryBuffer.ofSize(ServerFlag.MAX_PACKET_SIZE);
+        final ByteBuffer contentBuffer = ByteBuffer.allocateDirect(ServerFlag.MAX_PACKET_SIZE);
+        final Inflater inflater = new Inflater();
+        private ByteBuffer[] gatherBuffers = new ByteBuffer[16];
+
+        // Only written by the worker thread
+        volatile long writeCount, writtenBytes;
+
+        /**
+         * Gets a reusable array for gathering writes.
+         *
+         * @param size the minimum array size
+         * @return an array of at least {@code size} elements
+         */
+        public @NotNull ByteBuffer[] gatherBuffers(int size) {
+            ByteBuffer[] buffers = this.gatherBuffers;
+            if (buffers.length < size) {
+                buffers = new ByteBuffer[Math.max(size, buffers.length * 2)];
+                this.gatherBuffers = buffers;
+            }
+            return buffers;
+        }
+
+        /**
+         * Records a socket write.
+         *
+         * @param bytes the number of written bytes
+         */
+        public void recordWrite(long bytes) {
+            this.writeCount++;
+            this.writtenBytes += bytes;
+        }
+
+        public @NotNull ByteBuffer contentBuffer() {
+            return contentBuffer;
+        }
+
+        public @NotNull Inflater inflater() {
+            return inflater;
+        }
+    }
+
+    /**
+     * Write counters of a worker.
+     *
+     * @param ticks        the number of server ticks
+     * @param wakeups      the number of wakeups requested by the transport
+     * @param writes       the number of socket write calls
+     * @param writtenBytes the number of bytes written to sockets
+     */
+    public record Statistics(long ticks, long wakeups, long writes, long writtenBytes) {
+        public double writesPerTick() {
+            return ticks == 0 ? 0 : (double) writes / ticks;
+        }
+
+        public double bytesPerWrite() {
+            return writes == 0 ? 0 : (double) writtenBytes / writes;
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package net.minestom.server.ping;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.FramedPacket;
+import net.minestom.server.network.packet.server.status.ResponsePacket;
+import net.minestom.server.utils.PacketUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of the framed status responses, reused for every status request until it expires.
+ * <p>
+ * The {@link net.minestom.server.event.server.ServerListPingEvent} is only called when the cached response
+ * is missing or expired, it should therefore not depend on the pinging connection.
+ * Call {@link #invalidate()} after changing the data returned by the event (motd, favicon, player count).
+ * <p>
+ * Each server has its own cache, disabled by default. It is enabled by setting a positive {@link ServerFlag#STATUS_CACHE_TTL}.
+ *
+ * @see net.minestom.server.network.ConnectionManager#getStatusResponseCache()
+ */
+@ApiStatus.Experimental
+public final class StatusResponseCache {
+    private final long ttl;
+    private final LongSupplier nanoTime;
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(ServerListPingType.values().length);
+
+    /**
+     * Creates a cache keeping the responses for {@code ttl}.
+     *
+     * @param ttl the duration of the cached responses, zero to disable the cache
+     */
+    public StatusResponseCache(@NotNull Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    StatusResponseCache(@NotNull Duration ttl, @NotNull LongSupplier nanoTime) {
+        if (ttl.isNegative()) throw new IllegalArgumentException("TTL must be positive: " + ttl);
+        this.ttl = ttl.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Gets if status responses are cached.
+     *
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return ttl > 0;
+    }
+
+    public @NotNull Duration ttl() {
+        return Duration.ofNanos(ttl);
+    }
+
+    /**
+     * Discards all the cached responses, the next status request will call the ping event.
+     */
+    public void invalidate() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    @ApiStatus.Internal
+    public @Nullable FramedPacket get(@NotNull ServerListPingType type) {
+        if (!isEnabled()) return null;
+        final Entry entry = entries.get(type.ordinal());
+        if (entry == null || nanoTime.getAsLong() - entry.expiration() > 0) return null;
+        return entry.packet();
+    }
+
+    @ApiStatus.Internal
+    public @NotNull FramedPacket store(@NotNull ServerListPingType type, @NotNull ResponsePacket packet) {
+        // Compression is never enabled in the status state
+        final FramedPacket framedPacket = PacketUtils.allocateTrimmedPacket(ConnectionState.STATUS, packet, false);
+        if (isEnabled()) entries.set(type.ordinal(), new Entry(framedPacket, nanoTime.getAsLong() + ttl));
+        return framedPacket;
+    }
+
+    private record Entry(FramedPacket packet, long expiration) {
+    }
+}
@@ -40,6 +40,15 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
         return AcquirableImpl.WAIT_COUNTER_NANO.getAndSet(0);
     }
 
+    /**
+     * Retrieve and reset the number of acquisitions made by a {@link TickThread}
+     * on an element owned by another tick thread.
+     */
+    @ApiStatus.Internal
+    static long resetCrossThreadAcquisitions() {
+        return AcquirableImpl.CROSS_THREAD_COUNTER.sumThenReset();
+    }
+
     /**
      * Creates a new {@link Acquirable} object.
      * <p>
@@ -5,10 +5,12 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.VarHandle;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
 final class AcquirableImpl<T> implements Acquirable<T> {
     static final AtomicLong WAIT_COUNTER_NANO = new AtomicLong();
+    static final LongAdder CROSS_THREAD_COUNTER = new LongAdder();
 
     /**
      * Global lock used for synchronization.
@@ -47,6 +49,7 @@ final class AcquirableImpl<T> implements Acquirable<T> {
 
         // Monitoring
         final long time = System.nanoTime();
+        if (currentLock != null) CROSS_THREAD_COUNTER.increment();
 
         // Enter the target thread
         // TODO reduce global lock scope
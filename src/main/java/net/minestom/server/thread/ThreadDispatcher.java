@@ -1,5 +1,7 @@
 package net.minestom.server.thread;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minestom.server.Tickable;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedArrayQueue;
@@ -9,6 +11,7 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntFunction;
 
 /**
@@ -25,6 +28,10 @@ import java.util.function.IntFunction;
  * @see AcquirableSource
  */
 public final class ThreadDispatcher<P> {
+    // Load difference under which threads are considered balanced, avoids moving partitions back and forth
+    private static final long BALANCE_MIN_GAP = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int BALANCE_TOLERANCE = 10; // Percent of the most loaded thread
+
     private final ThreadProvider<P> provider;
     private final List<TickThread> threads;
 
@@ -35,6 +42,8 @@ public final class ThreadDispatcher<P> {
     private final Map<Tickable, Partition> elements = new WeakHashMap<>();
     // Queue to update partition linked thread
     private final ArrayDeque<P> partitionUpdateQueue = new ArrayDeque<>();
+    // ThreadProvider#findThread value -> partitions moved together, only used by RefreshType.BALANCED
+    private final Int2ObjectMap<Group> groups = new Int2ObjectOpenHashMap<>();
 
     // Requests consumed at the end of each tick
     private final MessagePassingQueue<DispatchUpdate<P>> updates = new MpscUnboundedArrayQueue<>(1024);
@@ -130,7 +139,8 @@ public final class ThreadDispatcher<P> {
 
     /**
      * Called at the end of each tick to clear removed tickables, refresh the partition linked to a tickable, and
-     * partition threads based on {@link ThreadProvider#findThread(Object)}.
+     * partition threads based on {@link ThreadProvider#findThread(Object)} or on their
+     * {@link Partition#cost() cost} depending on {@link ThreadProvider#refreshType()}.
      *
      * @param nanoTimeout max time in nanoseconds to update partitions
      */
@@ -148,19 +158,73 @@ public final class ThreadDispatcher<P> {
                     // Update chunk's thread
                     Partition partitionEntry = partitions.get(partition);
                     assert partitionEntry != null;
-                    final TickThread previous = partitionEntry.thread;
-                    final TickThread next = retrieveThread(partition);
-                    if (next != previous) {
-                        partitionEntry.thread = next;
-                        previous.entries().remove(partitionEntry);
-                        next.entries().add(partitionEntry);
-                    }
+                    movePartition(partitionEntry, retrieveThread(partition));
                     this.partitionUpdateQueue.addLast(partition);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
                         break;
                     }
                 }
             }
+            case BALANCED -> rebalance(nanoTimeout);
+        }
+    }
+
+    /**
+     * Moves partition groups from the most loaded threads to the least loaded ones, at most one move per thread.
+     */
+    private void rebalance(long nanoTimeout) {
+        final int threadCount = threads.size();
+        if (threadCount < 2) return;
+        final long currentTime = System.nanoTime();
+        long[] loads = new long[threadCount];
+        for (Group group : groups.values()) {
+            long cost = 0;
+            for (Partition partition : group.partitions) cost += partition.cost;
+            group.cost = cost;
+            loads[threads.indexOf(group.thread)] += cost;
+        }
+        for (int move = 0; move < threadCount; move++) {
+            int max = 0, min = 0;
+            for (int i = 1; i < threadCount; i++) {
+                if (loads[i] > loads[max]) max = i;
+                if (loads[i] < loads[min]) min = i;
+            }
+            final long gap = loads[max] - loads[min];
+            if (gap < BALANCE_MIN_GAP || gap * 100 < loads[max] * BALANCE_TOLERANCE) break;
+            // Any group cheaper than the gap reduces the imbalance, the one closest to half the gap evens it
+            final TickThread source = threads.get(max);
+            final long target = gap / 2;
+            Group best = null;
+            long bestDistance = Long.MAX_VALUE;
+            for (Group group : groups.values()) {
+                final long cost = group.cost;
+                if (group.thread != source || cost <= 0 || cost >= gap) continue;
+                final long distance = Math.abs(cost - target);
+                if (distance < bestDistance) {
+                    best = group;
+                    bestDistance = distance;
+                }
+            }
+            if (best == null) break; // Only groups too expensive to move
+            final TickThread next = threads.get(min);
+            best.thread = next;
+            for (Partition partition : best.partitions) movePartition(partition, next);
+            loads[max] -= best.cost;
+            loads[min] += best.cost;
+            if (System.nanoTime() - currentTime >= nanoTimeout) break;
+        }
+    }
+
+    private void movePartition(Partition partition, TickThread next) {
+        final TickThread previous = partition.thread;
+        if (next == previous) return;
+        partition.thread = next;
+        previous.entries().remove(partition);
+        next.entries().add(partition);
+        for (Tickable element : partition.elements) {
+            if (element instanceof AcquirableSource<?> acquirableSource) {
+                ((AcquirableImpl<?>) acquirableSource.acquirable()).updateThread(next);
+            }
         }
     }
 
@@ -219,8 +283,11 @@ public final class ThreadDispatcher<P> {
     }
 
     private TickThread retrieveThread(P partition) {
-        final int threadId = provider.findThread(partition);
-        final int index = Math.abs(threadId) % threads.size();
+        return threadAt(provider.findThread(partition));
+    }
+
+    private TickThread threadAt(int threadId) {
+        final int index = Math.floorMod(threadId, threads.size());
         return threads.get(index);
     }
 
@@ -230,9 +297,18 @@ public final class ThreadDispatcher<P> {
 
     private void processLoadedPartition(P partition) {
         if (partitions.containsKey(partition)) return;
-        final TickThread thread = retrieveThread(partition);
-        final Partition partitionEntry = new Partition(thread);
-        thread.entries().add(partitionEntry);
+        final Partition partitionEntry;
+        if (provider.refreshType() == ThreadProvider.RefreshType.BALANCED) {
+            // Join the group of the partitions sharing the same id, wherever it has been moved
+            final Group group = groups.computeIfAbsent(provider.findThread(partition),
+                    (int id) -> new Group(id, threadAt(id)));
+            partitionEntry = new Partition(group.thread);
+            partitionEntry.group = group;
+            group.partitions.add(partitionEntry);
+        } else {
+            partitionEntry = new Partition(retrieveThread(partition));
+        }
+        partitionEntry.thread.entries().add(partitionEntry);
         this.partitions.put(partition, partitionEntry);
         this.partitionUpdateQueue.add(partition);
         if (partition instanceof Tickable tickable) {
@@ -245,6 +321,10 @@ public final class ThreadDispatcher<P> {
         if (partitionEntry != null) {
             TickThread thread = partitionEntry.thread;
             thread.entries().remove(partitionEntry);
+            final Group group = partitionEntry.group;
+            if (group != null && group.partitions.remove(partitionEntry) && group.partitions.isEmpty()) {
+                this.groups.remove(group.id);
+            }
         }
         this.partitionUpdateQueue.remove(partition);
         if (partition instanceof Tickable tickable) {
@@ -284,6 +364,9 @@ public final class ThreadDispatcher<P> {
     public static final class Partition {
         private TickThread thread;
         private final List<Tickable> elements = new ArrayList<>();
+        // Written by the tick thread, read by the dispatcher once the tick latch is released
+        private long cost;
+        private Group group;
 
         private Partition(TickThread thread) {
             this.thread = thread;
@@ -309,6 +392,31 @@ public final class ThreadDispatcher<P> {
         public @NotNull List<Tickable> elements() {
             return elements;
         }
+
+        /**
+         * The time spent ticking this partition, as a moving average over the last ticks.
+         *
+         * @return the tick cost in nanoseconds
+         */
+        public long cost() {
+            return cost;
+        }
+
+        void recordCost(long nanos) {
+            this.cost += (nanos - cost) >> 3;
+        }
+    }
+
+    private static final class Group {
+        private final int id;
+        private final List<Partition> partitions = new ArrayList<>();
+        private TickThread thread;
+        private long cost;
+
+        private Group(int id, TickThread thread) {
+            this.id = id;
+            this.thread = thread;
+        }
     }
 
     @ApiStatus.Internal
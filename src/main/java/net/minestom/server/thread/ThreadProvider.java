@@ -1,5 +1,8 @@
 package net.minestom.server.thread;
 
+import net.minestom.server.ServerFlag;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -19,6 +22,77 @@ public interface ThreadProvider<T> {
         };
     }
 
+    /**
+     * Creates a provider moving partitions between threads based on their measured tick cost.
+     * <p>
+     * New partitions are spread using a counter, see {@link RefreshType#BALANCED}.
+     *
+     * @return a new balanced provider
+     */
+    static <T> @NotNull ThreadProvider<T> balanced() {
+        return new ThreadProvider<>() {
+            private final AtomicInteger counter = new AtomicInteger();
+
+            @Override
+            public int findThread(@NotNull T partition) {
+                return counter.getAndIncrement();
+            }
+
+            @Override
+            public @NotNull RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        };
+    }
+
+    /**
+     * Creates a provider assigning square regions of chunks to the same thread,
+     * so that neighbouring entities rarely need to acquire each other from another thread.
+     * <p>
+     * Whole regions are moved between threads based on their tick cost, see {@link RefreshType#BALANCED}.
+     * Distinct regions may share the same id, in which case they are moved together.
+     *
+     * @param regionSize the region side length, in chunks
+     * @return a new region provider
+     */
+    static @NotNull ThreadProvider<Chunk> regions(int regionSize) {
+        Check.argCondition(regionSize <= 0, "The region size must be positive");
+        return new ThreadProvider<>() {
+            @Override
+            public int findThread(@NotNull Chunk partition) {
+                final int regionX = Math.floorDiv(partition.getChunkX(), regionSize);
+                final int regionZ = Math.floorDiv(partition.getChunkZ(), regionSize);
+                return 31 * (31 * System.identityHashCode(partition.getInstance()) + regionX) + regionZ;
+            }
+
+            @Override
+            public @NotNull RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        };
+    }
+
+    /**
+     * Creates the provider of the server dispatcher, configured with {@link ServerFlag#DISPATCHER_PROVIDER}.
+     *
+     * @return a new chunk provider
+     * @throws IllegalArgumentException if the configured provider is unknown
+     */
+    @ApiStatus.Internal
+    static @NotNull ThreadProvider<Chunk> fromFlags() {
+        return named(ServerFlag.DISPATCHER_PROVIDER, ServerFlag.DISPATCHER_REGION_SIZE);
+    }
+
+    @ApiStatus.Internal
+    static @NotNull ThreadProvider<Chunk> named(@NotNull String name, int regionSize) {
+        return switch (name) {
+            case "counter" -> counter();
+            case "balanced" -> balanced();
+            case "regions" -> regions(regionSize);
+            default -> throw new IllegalArgumentException("Unknown dispatcher provider: " + name);
+        };
+    }
+
     /**
      * Performs a server tick for all chunks based on their linked thread.
      *
@@ -50,6 +124,14 @@ public interface ThreadProvider<T> {
          * <p>
          * Means that {@link #findThread(Object)} may be called multiple time for each partition.
          */
-        ALWAYS
+        ALWAYS,
+        /**
+         * Partitions are moved from the most loaded threads to the least loaded ones,
+         * based on the {@link ThreadDispatcher.Partition#cost() tick cost} of each partition.
+         * <p>
+         * Means that {@link #findThread(Object)} will only be called once for each partition, to place it initially.
+         * Partitions sharing the same value are kept on the same thread and moved together.
+         */
+        BALANCED
     }
 }
@@ -3,20 +3,27 @@ package net.minestom.server.thread;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.ServerProcess;
+import net.minestom.server.monitoring.LatencyHistogram;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 
 @ApiStatus.Internal
 public final class TickSchedulerThread extends MinestomThread {
     private static final long TICK_TIME_NANOS = 1_000_000_000L / ServerFlag.SERVER_TICKS_PER_SECOND;
-    // Windows has an issue with periodically being unable to sleep for < ~16ms at a time
-    private static final long SLEEP_THRESHOLD = System.getProperty("os.name", "")
-            .toLowerCase().startsWith("windows") ? 17 : 2;
 
     private final ServerProcess serverProcess;
+    private final TickWaitStrategy waitStrategy;
+    private final LatencyHistogram jitter;
 
     public TickSchedulerThread(ServerProcess serverProcess) {
+        this(serverProcess, TickWaitStrategy.fromFlags());
+    }
+
+    public TickSchedulerThread(@NotNull ServerProcess serverProcess, @NotNull TickWaitStrategy waitStrategy) {
         super(MinecraftServer.THREAD_NAME_TICK_SCHEDULER);
         this.serverProcess = serverProcess;
+        this.waitStrategy = waitStrategy;
+        this.jitter = serverProcess.benchmark().getTickProfiler().jitter();
     }
 
     @Override
@@ -45,22 +52,16 @@ public final class TickSchedulerThread extends MinestomThread {
     }
 
     private void waitUntilNextTick(long nextTickTimeNanos) {
-        long currentTime;
-        while ((currentTime = System.nanoTime()) < nextTickTimeNanos) {
-            long remainingTime = nextTickTimeNanos - currentTime;
-            // Sleep less the closer we are to the next tick
-            long remainingMilliseconds = remainingTime / 1_000_000L;
-            if (remainingMilliseconds >= SLEEP_THRESHOLD) {
-                sleepThread(remainingMilliseconds / 2);
+        // Late ticks are not waited for, their delay is not caused by the wait strategy
+        if (System.nanoTime() >= nextTickTimeNanos) return;
+        while (true) {
+            try {
+                waitStrategy.waitUntil(nextTickTimeNanos);
+                break;
+            } catch (InterruptedException e) {
+                serverProcess.exception().handleException(e);
             }
         }
-    }
-
-    private void sleepThread(long time) {
-        try {
-            Thread.sleep(time);
-        } catch (InterruptedException e) {
-            serverProcess.exception().handleException(e);
-        }
+        this.jitter.record(System.nanoTime() - nextTickTimeNanos);
     }
 }
@@ -4,6 +4,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.Tickable;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.monitoring.LatencyHistogram;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -29,9 +30,10 @@ public final class TickThread extends MinestomThread {
     private long tickTime;
     private long tickNum = 0;
     private final List<ThreadDispatcher.Partition> entries = new ArrayList<>();
+    private final LatencyHistogram tickDuration = new LatencyHistogram();
 
     public TickThread(int number) {
-        super(MinecraftServer.THREAD_NAME_TICK + "-" + number);
+        this(MinecraftServer.THREAD_NAME_TICK + "-" + number);
     }
 
     public TickThread(@NotNull String name) {
@@ -49,11 +51,13 @@ public final class TickThread extends MinestomThread {
         LockSupport.park(this);
         while (!stop) {
             this.lock.lock();
+            final long start = System.nanoTime();
             try {
                 tick();
             } catch (Exception e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
+            this.tickDuration.record(System.nanoTime() - start);
             this.lock.unlock();
             // #acquire() callbacks
             this.latch.countDown();
@@ -67,7 +71,11 @@ public final class TickThread extends MinestomThread {
         for (ThreadDispatcher.Partition entry : entries) {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
-            if (elements.isEmpty()) continue;
+            if (elements.isEmpty()) {
+                entry.recordCost(0);
+                continue;
+            }
+            final long start = System.nanoTime();
             for (Tickable element : elements) {
                 if (lock.hasQueuedThreads()) {
                     lock.unlock();
@@ -80,6 +88,7 @@ public final class TickThread extends MinestomThread {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
             }
+            entry.recordCost(System.nanoTime() - start);
         }
     }
 
@@ -113,6 +122,16 @@ public final class TickThread extends MinestomThread {
         return tickNum;
     }
 
+    /**
+     * Gets the time spent ticking partitions each tick.
+     *
+     * @return the tick durations, in nanoseconds
+     * @see net.minestom.server.monitoring.TickProfiler#threads()
+     */
+    public @NotNull LatencyHistogram tickDuration() {
+        return tickDuration;
+    }
+
     void shutdown() {
         this.stop = true;
         LockSupport.unpark(this);
@@ -0,0 +1,106 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Defines how the {@link TickSchedulerThread} waits for the next tick.
+ * <p>
+ * Spinning gives the most precise tick start but keeps a core busy, parking frees the core
+ * at the cost of the OS timer slack, which is larger on hosts with CPU quotas.
+ * The resulting delay is recorded in {@link net.minestom.server.monitoring.TickProfiler#jitter()}.
+ */
+@FunctionalInterface
+@ApiStatus.Experimental
+public interface TickWaitStrategy {
+    // Windows has an issue with periodically being unable to sleep for < ~16ms at a time
+    long SLEEP_THRESHOLD = System.getProperty("os.name", "")
+            .toLowerCase().startsWith("windows") ? 17 : 2;
+
+    /**
+     * Sleeps half the remaining milliseconds until close to the deadline, then spins.
+     *
+     * @return the sleep strategy
+     */
+    static @NotNull TickWaitStrategy sleep() {
+        return deadline -> {
+            long currentTime;
+            while ((currentTime = System.nanoTime()) < deadline) {
+                // Sleep less the closer we are to the next tick
+                final long remainingMilliseconds = (deadline - currentTime) / 1_000_000L;
+                if (remainingMilliseconds >= SLEEP_THRESHOLD) Thread.sleep(remainingMilliseconds / 2);
+            }
+        };
+    }
+
+    /**
+     * Parks until {@code spinNanos} before the deadline, then spins.
+     *
+     * @param spinNanos the spin window in nanoseconds
+     * @return the hybrid strategy
+     */
+    static @NotNull TickWaitStrategy hybrid(long spinNanos) {
+        Check.argCondition(spinNanos < 0, "The spin window cannot be negative");
+        return deadline -> {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > spinNanos) {
+                LockSupport.parkNanos(remaining - spinNanos);
+                if (Thread.interrupted()) throw new InterruptedException();
+            }
+            while (System.nanoTime() < deadline) Thread.onSpinWait();
+        };
+    }
+
+    /**
+     * Parks until the deadline, never spinning.
+     *
+     * @return the park strategy
+     */
+    static @NotNull TickWaitStrategy park() {
+        return deadline -> {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.interrupted()) throw new InterruptedException();
+            }
+        };
+    }
+
+    /**
+     * Spins until the deadline, keeping a core busy.
+     *
+     * @return the spin strategy
+     */
+    static @NotNull TickWaitStrategy spin() {
+        return deadline -> {
+            while (System.nanoTime() < deadline) Thread.onSpinWait();
+        };
+    }
+
+    /**
+     * Gets the strategy defined by {@link ServerFlag#TICK_WAIT_STRATEGY}.
+     *
+     * @return the configured strategy
+     */
+    static @NotNull TickWaitStrategy fromFlags() {
+        return switch (ServerFlag.TICK_WAIT_STRATEGY) {
+            case "hybrid" -> hybrid(ServerFlag.TICK_SPIN_WINDOW);
+            case "park" -> park();
+            case "spin" -> spin();
+            case "sleep" -> sleep();
+            default -> throw new IllegalArgumentException("Unknown tick wait strategy: " + ServerFlag.TICK_WAIT_STRATEGY);
+        };
+    }
+
+    /**
+     * Waits until {@code deadline}.
+     *
+     * @param deadline the next tick start, as a {@link System#nanoTime()} value
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void waitUntil(long deadline) throws InterruptedException;
+}
@@ -8,5 +8,12 @@ public enum ExecutionType {
     /**
      * Schedule tasks to execute at the end of the {@link Schedulable} tick
      */
-    TICK_END
+    TICK_END,
+    /**
+     * Schedule tasks to execute on a virtual thread, following the {@link #TICK_START} timing.
+     * <p>
+     * Suited to blocking work such as database or HTTP calls, the number of tasks running at once
+     * is limited per scheduler, see {@link Scheduler#virtualTasks()}.
+     */
+    VIRTUAL
 }
@@ -1,5 +1,6 @@
 package net.minestom.server.timer;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.Executor;
@@ -16,6 +17,16 @@ public sealed interface Scheduler extends Executor permits SchedulerImpl, Schedu
         return new SchedulerImpl();
     }
 
+    /**
+     * Creates a scheduler with a custom limit of {@link ExecutionType#VIRTUAL} tasks running at once.
+     *
+     * @param virtualConcurrency the maximum number of virtual tasks running at once
+     * @return a new scheduler
+     */
+    static @NotNull Scheduler newScheduler(int virtualConcurrency) {
+        return new SchedulerImpl(virtualConcurrency);
+    }
+
     /**
      * Process scheduled tasks based on time to increase scheduling precision.
      * <p>
@@ -37,14 +48,23 @@ public sealed interface Scheduler extends Executor permits SchedulerImpl, Schedu
      */
     void processTickEnd();
 
+    /**
+     * Gets the counters of the {@link ExecutionType#VIRTUAL} tasks.
+     *
+     * @return the virtual task counters
+     */
+    @ApiStatus.Experimental
+    @NotNull VirtualTasks virtualTasks();
+
     /**
      * Submits a new task with custom scheduling logic.
      * <p>
      * This is the primitive method used by all scheduling shortcuts,
      * {@code task} is immediately executed in the caller thread to retrieve its scheduling state
      * and the task will stay alive as long as {@link TaskSchedule#stop()} is not returned (or {@link Task#cancel()} is called).
+     * {@link ExecutionType#VIRTUAL} tasks are instead executed on a virtual thread, including the first time.
      *
-     * @param task          the task to be directly executed in the caller thread
+     * @param task          the task to be directly executed in the caller thread, or on a virtual thread
      * @param executionType the execution type
      * @return the created task
      */
@@ -100,4 +120,16 @@ public sealed interface Scheduler extends Executor permits SchedulerImpl, Schedu
     default void execute(@NotNull Runnable command) {
         scheduleNextTick(command);
     }
+
+    /**
+     * Counters of the {@link ExecutionType#VIRTUAL} tasks of a scheduler.
+     *
+     * @param queued         the number of due tasks waiting for a virtual thread
+     * @param running        the number of virtual threads running tasks
+     * @param completed      the number of task executions completed
+     * @param maxConcurrency the maximum number of tasks running at once
+     */
+    @ApiStatus.Experimental
+    record VirtualTasks(int queued, int running, long completed, int maxConcurrency) {
+    }
 }
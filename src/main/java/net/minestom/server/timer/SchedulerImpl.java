@@ -1,34 +1,58 @@
 package net.minestom.server.timer;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
     private static final AtomicInteger TASK_COUNTER = new AtomicInteger();
-    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
-        Thread thread = new Thread(r);
-        thread.setDaemon(true);
-        return thread;
-    });
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final VarHandle SCHEDULED_TASKS;
+
+    static {
+        try {
+            SCHEDULED_TASKS = MethodHandles.lookup().findVarHandle(SchedulerImpl.class, "scheduledTasks", MpscUnboundedArrayQueue.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
     private final MpscUnboundedArrayQueue<TaskImpl> tasksToExecute = new MpscUnboundedArrayQueue<>(64);
     private final MpscUnboundedArrayQueue<TaskImpl> tickEndTasksToExecute = new MpscUnboundedArrayQueue<>(64);
-    // Tasks scheduled on a certain tick/tick end
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickStartTaskQueue = new Int2ObjectAVLTreeMap<>();
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickEndTaskQueue = new Int2ObjectAVLTreeMap<>();
+    // Tasks waiting for a tick or a duration, moved to the wheels by the processing thread
+    // Every entity and instance owns a scheduler, the queue and the wheels are created on the first delayed task
+    private volatile MpscUnboundedArrayQueue<TaskImpl> scheduledTasks;
+    // Tasks scheduled on a certain tick/tick end, only accessed by the processing thread
+    private TimingWheel tickStartWheel;
+    private TimingWheel tickEndWheel;
+    // Tasks scheduled after a duration, in milliseconds since the scheduler creation
+    private TimingWheel durationWheel;
+    private final long origin = System.nanoTime();
+
+    // Only written by the processing thread
+    private volatile long tickState;
+
+    // Created on the first virtual task
+    private final int virtualConcurrency;
+    private volatile VirtualTaskExecutor virtualExecutor;
+
+    SchedulerImpl() {
+        this(ServerFlag.SCHEDULER_VIRTUAL_CONCURRENCY);
+    }
 
-    private int tickState;
+    SchedulerImpl(int virtualConcurrency) {
+        Check.argCondition(virtualConcurrency <= 0, "The virtual task concurrency must be positive");
+        this.virtualConcurrency = virtualConcurrency;
+    }
 
     @Override
     public void process() {
@@ -41,32 +65,49 @@ final class SchedulerImpl implements Scheduler {
     }
 
     private void processTick(int tickDelta) {
-        processTickTasks(tickStartTaskQueue, tasksToExecute, tickDelta);
+        processTickTasks(false, tasksToExecute, tickDelta);
     }
 
     @Override
     public void processTickEnd() {
-        processTickTasks(tickEndTaskQueue, tickEndTasksToExecute, 0);
+        processTickTasks(true, tickEndTasksToExecute, 0);
     }
 
-    private void processTickTasks(Int2ObjectAVLTreeMap<List<TaskImpl>> targetTaskQueue, MpscUnboundedArrayQueue<TaskImpl> targetTasksToExecute, int tickDelta) {
-        synchronized (this) {
-            this.tickState += tickDelta;
-            int tickToProcess;
-            while (!targetTaskQueue.isEmpty() && (tickToProcess = targetTaskQueue.firstIntKey()) <= tickState) {
-                final List<TaskImpl> tickScheduledTasks = targetTaskQueue.remove(tickToProcess);
-                if (tickScheduledTasks != null) tickScheduledTasks.forEach(targetTasksToExecute::relaxedOffer);
-            }
-        }
+    private void processTickTasks(boolean endWheel, MpscUnboundedArrayQueue<TaskImpl> targetTasksToExecute, int tickDelta) {
+        final long tickState = this.tickState + tickDelta;
+        this.tickState = tickState;
+        final MpscUnboundedArrayQueue<TaskImpl> scheduledTasks = this.scheduledTasks;
+        if (scheduledTasks != null) scheduledTasks.drain(this::wheelTask);
+        final TimingWheel targetWheel = endWheel ? this.tickEndWheel : this.tickStartWheel;
+        if (targetWheel != null) targetWheel.advance(tickState, targetTasksToExecute::relaxedOffer);
+        final TimingWheel durationWheel = this.durationWheel;
+        if (durationWheel != null) durationWheel.advance(durationTime(), this::safeExecute);
         runTasks(targetTasksToExecute);
     }
 
+    private long durationTime() {
+        return (System.nanoTime() - origin) / MILLIS;
+    }
+
+    private MpscUnboundedArrayQueue<TaskImpl> scheduledTasks() {
+        MpscUnboundedArrayQueue<TaskImpl> queue = this.scheduledTasks;
+        if (queue == null) {
+            queue = new MpscUnboundedArrayQueue<>(16);
+            if (!SCHEDULED_TASKS.compareAndSet(this, null, queue)) queue = this.scheduledTasks;
+        }
+        return queue;
+    }
+
     private void runTasks(MpscUnboundedArrayQueue<TaskImpl> targetQueue) {
         // Run all tasks lock-free, either in the current thread or pool
         if (!targetQueue.isEmpty()) {
             targetQueue.drain(task -> {
                 if (!task.isAlive()) return;
-                handleTask(task);
+                if (task.executionType() == ExecutionType.VIRTUAL) {
+                    virtualExecutor().execute(() -> handleTask(task));
+                } else {
+                    handleTask(task);
+                }
             });
         }
     }
@@ -76,10 +117,32 @@ final class SchedulerImpl implements Scheduler {
                                     @NotNull ExecutionType executionType) {
         final TaskImpl taskRef = new TaskImpl(TASK_COUNTER.getAndIncrement(), task,
                 executionType, this);
-        handleTask(taskRef);
+        if (executionType == ExecutionType.VIRTUAL) {
+            // Even the first execution may block
+            virtualExecutor().execute(() -> handleTask(taskRef));
+        } else {
+            handleTask(taskRef);
+        }
         return taskRef;
     }
 
+    @Override
+    public @NotNull VirtualTasks virtualTasks() {
+        final VirtualTaskExecutor executor = this.virtualExecutor;
+        return executor != null ? executor.statistics() : new VirtualTasks(0, 0, 0, virtualConcurrency);
+    }
+
+    private VirtualTaskExecutor virtualExecutor() {
+        VirtualTaskExecutor executor = this.virtualExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.virtualExecutor;
+                if (executor == null) this.virtualExecutor = executor = new VirtualTaskExecutor(virtualConcurrency);
+            }
+        }
+        return executor;
+    }
+
     void unparkTask(TaskImpl task) {
         if (task.tryUnpark())
             this.tasksToExecute.relaxedOffer(task);
@@ -89,11 +152,36 @@ final class SchedulerImpl implements Scheduler {
         // Prevent the task from being executed in the current thread
         // By either adding the task to the execution queue or submitting it to the pool
         switch (task.executionType()) {
-            case TICK_START -> tasksToExecute.offer(task);
+            case TICK_START, VIRTUAL -> tasksToExecute.offer(task);
             case TICK_END -> tickEndTasksToExecute.offer(task);
         }
     }
 
+    private void wheelTask(TaskImpl task) {
+        if (!task.isAlive()) return;
+        final long deadline = task.scheduledDeadline;
+        if (task.durationDeadline) {
+            TimingWheel durationWheel = this.durationWheel;
+            if (durationWheel == null) this.durationWheel = durationWheel = new TimingWheel(durationTime());
+            if (!durationWheel.add(task, deadline)) safeExecute(task);
+            return;
+        }
+        final boolean added = switch (task.executionType()) {
+            case TICK_START, VIRTUAL -> {
+                TimingWheel wheel = this.tickStartWheel;
+                if (wheel == null) this.tickStartWheel = wheel = new TimingWheel(tickState);
+                yield wheel.add(task, deadline);
+            }
+            case TICK_END -> {
+                TimingWheel wheel = this.tickEndWheel;
+                if (wheel == null) this.tickEndWheel = wheel = new TimingWheel(tickState);
+                yield wheel.add(task, deadline);
+            }
+        };
+        // Already reached, e.g. a tick end task scheduled before the tick end processing
+        if (!added) safeExecute(task);
+    }
+
     private void handleTask(TaskImpl task) {
         TaskSchedule schedule;
         try {
@@ -105,16 +193,19 @@ final class SchedulerImpl implements Scheduler {
 
         if (schedule instanceof TaskScheduleImpl.DurationSchedule durationSchedule) {
             final Duration duration = durationSchedule.duration();
-            SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
-        } else if (schedule instanceof TaskScheduleImpl.TickSchedule tickSchedule) {
-            synchronized (this) {
-                final int target = tickState + tickSchedule.tick();
-                var targetTaskQueue = switch (task.executionType()) {
-                    case TICK_START -> tickStartTaskQueue;
-                    case TICK_END -> tickEndTaskQueue;
-                };
-                targetTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
+            if (duration.isNegative() || duration.isZero()) {
+                safeExecute(task);
+                return;
             }
+            // Round the current time up so that the task never runs early
+            final long now = Math.ceilDiv(System.nanoTime() - origin, MILLIS);
+            task.scheduledDeadline = now + duration.toMillis();
+            task.durationDeadline = true;
+            scheduledTasks().relaxedOffer(task);
+        } else if (schedule instanceof TaskScheduleImpl.TickSchedule tickSchedule) {
+            task.scheduledDeadline = tickState + tickSchedule.tick();
+            task.durationDeadline = false;
+            scheduledTasks().relaxedOffer(task);
         } else if (schedule instanceof TaskScheduleImpl.FutureSchedule futureSchedule) {
             futureSchedule.future().thenRun(() -> safeExecute(task));
         } else if (schedule instanceof TaskScheduleImpl.Park) {
@@ -30,6 +30,11 @@ public final class SchedulerManager implements Scheduler {
         return scheduler.submitTask(task, executionType);
     }
 
+    @Override
+    public @NotNull VirtualTasks virtualTasks() {
+        return scheduler.virtualTasks();
+    }
+
     public void shutdown() {
         this.shutdownTasks.drain(Runnable::run);
     }
@@ -26,6 +26,13 @@ final class TaskImpl implements Task {
     volatile boolean alive;
     volatile boolean parked;
 
+    // Schedule waiting to be moved to a timing wheel, published through SchedulerImpl#scheduledTasks
+    long scheduledDeadline;
+    boolean durationDeadline;
+    // Only accessed by the TimingWheel holding the task
+    long wheelDeadline;
+    TaskImpl wheelNext;
+
     TaskImpl(int id,
              @NotNull Supplier<TaskSchedule> task,
              @NotNull ExecutionType executionType,
@@ -0,0 +1,150 @@
+package net.minestom.server.timer;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel, each level splitting the range of the level below in {@value #SLOTS} slots.
+ * <p>
+ * Tasks are linked through {@link TaskImpl#wheelNext}, adding a task is O(1) and allocation free once its level
+ * is in use.
+ * <p>
+ * Cancelled tasks are not unlinked, {@link Task#cancel()} can be called from any thread while the wheel is not
+ * thread-safe. They stay in their slot, and keep its level allocated, until the wheel reaches their deadline
+ * (or cascades them to a lower level) and drops them.
+ * <p>
+ * Schedulers are owned by every entity and instance, most of them holding a few tasks at most.
+ * Slot arrays are therefore only allocated for the levels in use, and released once their level is empty.
+ * Level 0 is kept until the whole wheel is found empty when advancing, so that tasks repeating every few ticks
+ * do not allocate it again each time.
+ * <p>
+ * Not thread-safe, only accessed by the thread processing the scheduler.
+ */
+final class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    // Slots are stacks, reversed when detached to keep the insertion order
+    private final TaskImpl[][] slots = new TaskImpl[LEVELS][];
+    private final int[] levelSizes = new int[LEVELS];
+    private int size;
+    private long current;
+
+    TimingWheel(long current) {
+        this.current = current;
+    }
+
+    /**
+     * Adds a task expiring at {@code deadline}.
+     *
+     * @return false if the deadline has already been reached, the task is then not added
+     */
+    boolean add(TaskImpl task, long deadline) {
+        final long current = this.current;
+        if (deadline <= current) return false;
+        // Highest level at which the deadline and the current time differ
+        final int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(deadline ^ current)) / SLOT_BITS;
+        final int slot = (int) (deadline >>> (level * SLOT_BITS)) & SLOT_MASK;
+        TaskImpl[] slots = this.slots[level];
+        if (slots == null) slots = this.slots[level] = new TaskImpl[SLOTS];
+        task.wheelDeadline = deadline;
+        task.wheelNext = slots[slot];
+        slots[slot] = task;
+        this.levelSizes[level]++;
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Moves the wheel to {@code time}, passing the alive expired tasks to {@code expired} in deadline order.
+     */
+    void advance(long time, Consumer<TaskImpl> expired) {
+        if (size == 0) {
+            // Not even re-added since the previous call, release the remaining level
+            if (slots[0] != null) Arrays.fill(slots, null);
+            if (time > current) this.current = time;
+            return;
+        }
+        while (current < time) {
+            if (size == 0) {
+                this.current = time;
+                return;
+            }
+            if (levelSizes[0] == 0) {
+                // Nothing can expire before the next cascade
+                final long boundary = current | SLOT_MASK;
+                if (boundary >= time) {
+                    this.current = time;
+                    return;
+                }
+                this.current = boundary;
+            }
+            final long next = ++this.current;
+            // Cascade the levels whose slot just started, from the highest one
+            int level = 0;
+            while (level < LEVELS - 1 && (next & ((1L << ((level + 1) * SLOT_BITS)) - 1)) == 0) level++;
+            for (; level > 0; level--) {
+                if (levelSizes[level] == 0) continue;
+                TaskImpl task = detach(level, (int) (next >>> (level * SLOT_BITS)) & SLOT_MASK);
+                // Release the level before moving its tasks down, they can only go to lower levels
+                if (levelSizes[level] == 0) this.slots[level] = null;
+                while (task != null) {
+                    final TaskImpl following = task.wheelNext;
+                    task.wheelNext = null;
+                    if (task.isAlive() && !add(task, task.wheelDeadline)) expired.accept(task);
+                    task = following;
+                }
+            }
+            if (levelSizes[0] != 0) {
+                TaskImpl task = detach(0, (int) next & SLOT_MASK);
+                while (task != null) {
+                    final TaskImpl following = task.wheelNext;
+                    task.wheelNext = null;
+                    if (task.isAlive()) expired.accept(task);
+                    task = following;
+                }
+            }
+        }
+    }
+
+    long current() {
+        return current;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of levels whose slots are allocated.
+     */
+    int allocatedLevels() {
+        int count = 0;
+        for (TaskImpl[] slots : this.slots) {
+            if (slots != null) count++;
+        }
+        return count;
+    }
+
+    private TaskImpl detach(int level, int slot) {
+        final TaskImpl[] slots = this.slots[level];
+        TaskImpl task = slots[slot];
+        if (task == null) return null;
+        slots[slot] = null;
+        // Reverse the stack
+        TaskImpl head = null;
+        int count = 0;
+        while (task != null) {
+            final TaskImpl following = task.wheelNext;
+            task.wheelNext = head;
+            head = task;
+            task = following;
+            count++;
+        }
+        this.levelSizes[level] -= count;
+        this.size -= count;
+        return head;
+    }
+}
@@ -0,0 +1,67 @@
+package net.minestom.server.timer;
+
+import net.minestom.server.utils.validate.Check;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the {@link ExecutionType#VIRTUAL} tasks of a scheduler, on at most {@code maxConcurrency} virtual threads.
+ * <p>
+ * Each virtual thread drains the queue until empty, so that bursts do not start a thread per task.
+ */
+final class VirtualTaskExecutor {
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("Ms-Scheduler-Virtual-", 0).factory();
+
+    private final int maxConcurrency;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+
+    VirtualTaskExecutor(int maxConcurrency) {
+        Check.argCondition(maxConcurrency <= 0, "The virtual task concurrency must be positive");
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    void execute(Runnable runnable) {
+        this.queued.incrementAndGet();
+        this.queue.offer(runnable);
+        tryStart();
+    }
+
+    Scheduler.VirtualTasks statistics() {
+        return new Scheduler.VirtualTasks(queued.get(), running.get(), completed.sum(), maxConcurrency);
+    }
+
+    private void tryStart() {
+        int current;
+        while ((current = running.get()) < maxConcurrency && !queue.isEmpty()) {
+            if (running.compareAndSet(current, current + 1)) {
+                THREAD_FACTORY.newThread(this::drain).start();
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable runnable;
+            while ((runnable = queue.poll()) != null) {
+                this.queued.decrementAndGet();
+                try {
+                    runnable.run();
+                } finally {
+                    this.completed.increment();
+                }
+            }
+        } finally {
+            this.running.decrementAndGet();
+        }
+        // A task may have been queued after the last poll, while this thread was still counted as running
+        tryStart();
+    }
+}
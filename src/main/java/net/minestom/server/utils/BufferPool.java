@@ -0,0 +1,149 @@
+package net.minestom.server.utils;
+
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of {@link BinaryBuffer} split in size classes, allowing buffers to grow only when required.
+ * <p>
+ * Buffers are taken from the smallest class able to hold the requested size,
+ * and must be given back with {@link #add(BinaryBuffer)} once unused.
+ */
+@ApiStatus.Internal
+@ApiStatus.Experimental
+public final class BufferPool {
+    /**
+     * Pool used for the connections outgoing data.
+     */
+    public static final BufferPool CONNECTION_POOL = new BufferPool(4_096, 65_536, 262_144, 2_097_152);
+
+    private final SizeClass[] classes;
+
+    BufferPool(int... sizes) {
+        assert sizes.length > 0;
+        int[] sorted = sizes.clone();
+        Arrays.sort(sorted);
+        this.classes = Arrays.stream(sorted).mapToObj(SizeClass::new).toArray(SizeClass[]::new);
+    }
+
+    /**
+     * Gets a buffer from the smallest class able to hold {@code size} bytes,
+     * or from the largest class if none can.
+     *
+     * @param size the number of bytes the buffer should be able to hold
+     * @return a cleared buffer
+     */
+    public @NotNull BinaryBuffer get(int size) {
+        return sizeClass(size).get();
+    }
+
+    /**
+     * Gets a buffer from the smallest class.
+     *
+     * @return a cleared buffer
+     */
+    public @NotNull BinaryBuffer get() {
+        return classes[0].get();
+    }
+
+    /**
+     * Gives a buffer back to the pool.
+     * <p>
+     * Buffers which have not been allocated by this pool are ignored.
+     *
+     * @param buffer the buffer to release
+     */
+    public void add(@NotNull BinaryBuffer buffer) {
+        final int capacity = buffer.capacity();
+        for (SizeClass sizeClass : classes) {
+            if (sizeClass.size == capacity) {
+                sizeClass.add(buffer);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the capacity of the buffers returned by {@link #get(int)}.
+     *
+     * @param size the requested size
+     * @return the capacity of the matching size class
+     */
+    public int classSize(int size) {
+        return sizeClass(size).size;
+    }
+
+    public int minSize() {
+        return classes[0].size;
+    }
+
+    public int maxSize() {
+        return classes[classes.length - 1].size;
+    }
+
+    /**
+     * Gets the counters of each size class, from the smallest to the largest.
+     *
+     * @return the statistics of each size class
+     */
+    public @NotNull List<Statistics> statistics() {
+        return Arrays.stream(classes).map(SizeClass::statistics).toList();
+    }
+
+    private SizeClass sizeClass(int size) {
+        for (SizeClass sizeClass : classes) {
+            // BinaryBuffer cannot be completely filled
+            if (size < sizeClass.size) return sizeClass;
+        }
+        return classes[classes.length - 1];
+    }
+
+    /**
+     * Counters of a size class.
+     *
+     * @param size        the capacity of the buffers
+     * @param hits        the number of buffers reused from the pool
+     * @param misses      the number of allocated buffers
+     * @param outstanding the number of buffers currently in use
+     * @param pooled      the number of buffers waiting in the pool
+     */
+    public record Statistics(int size, long hits, long misses, long outstanding, int pooled) {
+    }
+
+    private static final class SizeClass {
+        private final int size;
+        private final ObjectPool<BinaryBuffer> pool;
+        private final LongAdder gets = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder outstanding = new LongAdder();
+
+        SizeClass(int size) {
+            this.size = size;
+            this.pool = new ObjectPool<>(() -> {
+                this.misses.increment();
+                return BinaryBuffer.ofSize(size);
+            }, BinaryBuffer::clear);
+        }
+
+        BinaryBuffer get() {
+            this.gets.increment();
+            this.outstanding.increment();
+            return pool.get();
+        }
+
+        void add(BinaryBuffer buffer) {
+            this.outstanding.decrement();
+            this.pool.add(buffer);
+        }
+
+        Statistics statistics() {
+            final long misses = this.misses.sum();
+            return new Statistics(size, gets.sum() - misses, misses, outstanding.sum(), pool.count());
+        }
+    }
+}
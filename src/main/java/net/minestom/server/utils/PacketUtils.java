@@ -4,6 +4,7 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import net.kyori.adventure.audience.Audience;
@@ -18,8 +19,10 @@ import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
+import net.minestom.server.monitoring.PacketStatistics;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.compression.PacketCompressor;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.FramedPacket;
 import net.minestom.server.network.packet.server.SendablePacket;
@@ -33,12 +36,15 @@ import org.jetbrains.annotations.Nullable;
 
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.zip.DataFormatException;
-import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
 /**
@@ -50,7 +56,7 @@ import java.util.zip.Inflater;
  * Be sure to check the implementation code.
  */
 public final class PacketUtils {
-    private static final ThreadLocal<Deflater> LOCAL_DEFLATER = ThreadLocal.withInitial(Deflater::new);
+    private static final ThreadLocal<Inflater> LOCAL_INFLATER = ThreadLocal.withInitial(Inflater::new);
 
     // Viewable packets
     private static final Cache<Viewable, ViewableStorage> VIEWABLE_STORAGE_MAP = Caffeine.newBuilder().weakKeys().build();
@@ -190,8 +196,40 @@ public final class PacketUtils {
     @ApiStatus.Internal
     public static @Nullable BinaryBuffer readPackets(@NotNull BinaryBuffer readBuffer, boolean compressed,
                                                      BiConsumer<Integer, ByteBuffer> payloadConsumer) throws DataFormatException {
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            return readPackets(readBuffer, compressed, LOCAL_INFLATER.get(), hold.get(), payloadConsumer);
+        }
+    }
+
+    @ApiStatus.Internal
+    public static @Nullable BinaryBuffer readPackets(@NotNull BinaryBuffer readBuffer, boolean compressed,
+                                                     @NotNull Inflater inflater, @NotNull ByteBuffer contentBuffer,
+                                                     BiConsumer<Integer, ByteBuffer> payloadConsumer) throws DataFormatException {
+        return readPackets(readBuffer, compressed, inflater, contentBuffer,
+                (id, payload, frameSize) -> payloadConsumer.accept(id, payload));
+    }
+
+    /**
+     * Reads all the complete packets contained in {@code readBuffer}.
+     * <p>
+     * Compressed payloads are inflated into {@code contentBuffer} using {@code inflater}, both are expected
+     * to be owned by the calling thread (e.g. a {@link net.minestom.server.network.socket.Worker}) and reused between calls.
+     * The payload given to {@code payloadConsumer} is only valid until the consumer returns.
+     *
+     * @param readBuffer      the buffer containing the raw socket data
+     * @param compressed      whether the packets use the compressed format
+     * @param inflater        the inflater used for compressed payloads, reset before each use
+     * @param contentBuffer   direct scratch buffer receiving decompressed payloads, must be able to hold the largest packet
+     * @param payloadConsumer consumer of the packet id, its payload and its framed size
+     * @return the incomplete data left to be read on the next call, null if none
+     * @throws DataFormatException if a compressed payload is invalid
+     */
+    @ApiStatus.Internal
+    public static @Nullable BinaryBuffer readPackets(@NotNull BinaryBuffer readBuffer, boolean compressed,
+                                                     @NotNull Inflater inflater, @NotNull ByteBuffer contentBuffer,
+                                                     @NotNull PacketConsumer payloadConsumer) throws DataFormatException {
+        assert contentBuffer.isDirect();
         BinaryBuffer remaining = null;
-        ByteBuffer pool = ObjectPool.PACKET_POOL.get();
         while (readBuffer.readableBytes() > 0) {
             final var beginMark = readBuffer.mark();
             try {
@@ -203,8 +241,7 @@ public final class PacketUtils {
                     throw new BufferUnderflowException();
                 }
                 // Read packet https://wiki.vg/Protocol#Packet_format
-                BinaryBuffer content = readBuffer;
-                int decompressedSize = packetLength;
+                ByteBuffer payload;
                 if (compressed) {
                     final int dataLength = readBuffer.readVarInt();
                     final int payloadLength = packetLength - (readBuffer.readerOffset() - readerStart);
@@ -213,22 +250,28 @@ public final class PacketUtils {
                     }
                     if (dataLength == 0) {
                         // Data is too small to be compressed, payload is following
-                        decompressedSize = payloadLength;
+                        payload = readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength);
                     } else {
                         // Decompress to content buffer
-                        content = BinaryBuffer.wrap(pool);
-                        decompressedSize = dataLength;
-                        Inflater inflater = new Inflater(); // TODO: Pool?
-                        inflater.setInput(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength));
-                        inflater.inflate(content.asByteBuffer(0, dataLength));
+                        if (dataLength < 0 || dataLength > contentBuffer.capacity()) {
+                            throw new DataFormatException("Invalid data length " + dataLength);
+                        }
+                        payload = contentBuffer.clear().limit(dataLength);
                         inflater.reset();
+                        inflater.setInput(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength));
+                        final int inflated = inflater.inflate(payload);
+                        if (inflated != dataLength) {
+                            throw new DataFormatException("Expected " + dataLength + " bytes, inflated " + inflated);
+                        }
+                        payload.flip();
                     }
+                } else {
+                    payload = readBuffer.asByteBuffer(readBuffer.readerOffset(), packetLength);
                 }
                 // Slice packet
-                ByteBuffer payload = content.asByteBuffer(content.readerOffset(), decompressedSize);
                 final int packetId = Utils.readVarInt(payload);
                 try {
-                    payloadConsumer.accept(packetId, payload);
+                    payloadConsumer.accept(packetId, payload, readerStart + packetLength - beginMark.readerOffset());
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
@@ -240,60 +283,118 @@ public final class PacketUtils {
                 break;
             }
         }
-        ObjectPool.PACKET_POOL.add(pool);
         return remaining;
     }
 
+    /**
+     * Gets the uncompressed size (id and payload) of the packet framed at {@code index}.
+     *
+     * @param buffer     the buffer containing the framed packet
+     * @param index      the index of the packet length
+     * @param compressed whether the packet uses the compressed format
+     * @return the size of the packet once decompressed
+     */
+    @ApiStatus.Internal
+    public static int framedPacketSize(@NotNull ByteBuffer buffer, int index, boolean compressed) {
+        int packetLength = 0, shift = 0;
+        byte b;
+        do {
+            b = buffer.get(index++);
+            packetLength |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        if (!compressed) return packetLength;
+        final int dataStart = index;
+        int dataLength = 0;
+        shift = 0;
+        do {
+            b = buffer.get(index++);
+            dataLength |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        // A data length of 0 means that the packet is not compressed
+        return dataLength != 0 ? dataLength : packetLength - (index - dataStart);
+    }
+
     public static void writeFramedPacket(@NotNull ConnectionState state,
                                          @NotNull ByteBuffer buffer,
                                          @NotNull ServerPacket packet,
                                          boolean compression) {
+        writeFramedPacket(state, buffer, packet, compression, MinecraftServer.getPacketCompressor());
+    }
+
+    public static void writeFramedPacket(@NotNull ConnectionState state,
+                                         @NotNull ByteBuffer buffer,
+                                         @NotNull ServerPacket packet,
+                                         boolean compression,
+                                         @NotNull PacketCompressor compressor) {
         writeFramedPacket(buffer, packet.getId(state), packet,
-                compression ? MinecraftServer.getCompressionThreshold() : 0);
+                compression ? MinecraftServer.getCompressionThreshold() : 0, compressor);
     }
 
     public static void writeFramedPacket(@NotNull ByteBuffer buffer,
                                          int id,
                                          @NotNull NetworkBuffer.Writer writer,
                                          int compressionThreshold) {
+        writeFramedPacket(buffer, id, writer, compressionThreshold, MinecraftServer.getPacketCompressor());
+    }
+
+    public static void writeFramedPacket(@NotNull ByteBuffer buffer,
+                                         int id,
+                                         @NotNull NetworkBuffer.Writer writer,
+                                         int compressionThreshold,
+                                         @NotNull PacketCompressor compressor) {
+        final int start = buffer.position();
+        final int headerSize = framedHeaderSize(compressionThreshold);
         NetworkBuffer networkBuffer = new NetworkBuffer(buffer, false);
+        networkBuffer.skipWrite(headerSize);
+        networkBuffer.write(NetworkBuffer.VAR_INT, id);
+        networkBuffer.write(writer);
+        final int contentSize = networkBuffer.writeIndex() - (start + headerSize);
+        buffer.position(frame(buffer, start, contentSize, writer, compressionThreshold, compressor));
+    }
+
+    private static int framedHeaderSize(int compressionThreshold) {
+        // Packet length, followed by the data length when compression is enabled
+        return compressionThreshold > 0 ? 6 : 3;
+    }
+
+    /**
+     * Compresses and writes the header of a packet whose id and payload follow the header space at {@code start}.
+     *
+     * @return the index following the framed packet
+     */
+    private static int frame(@NotNull ByteBuffer buffer, int start, int contentSize,
+                             @NotNull NetworkBuffer.Writer writer, int compressionThreshold,
+                             @NotNull PacketCompressor compressor) {
         if (compressionThreshold <= 0) {
             // Uncompressed format https://wiki.vg/Protocol#Without_compression
-            final int lengthIndex = networkBuffer.skipWrite(3);
-            networkBuffer.write(NetworkBuffer.VAR_INT, id);
-            networkBuffer.write(writer);
-            final int finalSize = networkBuffer.writeIndex() - (lengthIndex + 3);
-            Utils.writeVarIntHeader(buffer, lengthIndex, finalSize);
-            buffer.position(networkBuffer.writeIndex());
-            return;
+            Utils.writeVarIntHeader(buffer, start, contentSize);
+            return start + 3 + contentSize;
         }
         // Compressed format https://wiki.vg/Protocol#With_compression
-        final int compressedIndex = networkBuffer.skipWrite(3);
-        final int uncompressedIndex = networkBuffer.skipWrite(3);
-
-        final int contentStart = networkBuffer.writeIndex();
-        networkBuffer.write(NetworkBuffer.VAR_INT, id);
-        networkBuffer.write(writer);
-        final int packetSize = networkBuffer.writeIndex() - contentStart;
-        final boolean compressed = packetSize >= compressionThreshold;
+        final int uncompressedIndex = start + 3;
+        final int contentStart = start + 6;
+        int end = contentStart + contentSize;
+        boolean compressed = contentSize >= compressionThreshold;
         if (compressed) {
             // Packet large enough, compress it
             try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                final ByteBuffer input = hold.get().put(0, buffer, contentStart, packetSize);
-                Deflater deflater = LOCAL_DEFLATER.get();
-                deflater.setInput(input.limit(packetSize));
-                deflater.finish();
-                deflater.deflate(buffer.position(contentStart));
-                deflater.reset();
-
-                networkBuffer.skipWrite(buffer.position() - contentStart);
+                final ByteBuffer input = hold.get().put(0, buffer, contentStart, contentSize).limit(contentSize);
+                final int compressedSize = compressor.compress(writer, input, buffer.position(contentStart));
+                if (compressedSize >= 0) {
+                    end = contentStart + compressedSize;
+                } else {
+                    // Compressor refused the packet, restore the original content
+                    buffer.put(contentStart, input, 0, contentSize);
+                    compressed = false;
+                }
             }
         }
         // Packet header (Packet + Data Length)
-        Utils.writeVarIntHeader(buffer, compressedIndex, networkBuffer.writeIndex() - uncompressedIndex);
-        Utils.writeVarIntHeader(buffer, uncompressedIndex, compressed ? packetSize : 0);
-
-        buffer.position(networkBuffer.writeIndex());
+        Utils.writeVarIntHeader(buffer, start, end - uncompressedIndex);
+        Utils.writeVarIntHeader(buffer, uncompressedIndex, compressed ? contentSize : 0);
+        return end;
     }
 
     @ApiStatus.Internal
@@ -302,6 +403,13 @@ public final class PacketUtils {
         return buffer.flip();
     }
 
+    @ApiStatus.Internal
+    public static ByteBuffer createFramedPacket(@NotNull ConnectionState state, @NotNull ByteBuffer buffer, @NotNull ServerPacket packet,
+                                                boolean compression, @NotNull PacketCompressor compressor) {
+        writeFramedPacket(state, buffer, packet, compression, compressor);
+        return buffer.flip();
+    }
+
     @ApiStatus.Internal
     public static ByteBuffer createFramedPacket(@NotNull ConnectionState state, @NotNull ByteBuffer buffer, @NotNull ServerPacket packet) {
         return createFramedPacket(state, buffer, packet, MinecraftServer.getCompressionThreshold() > 0);
@@ -309,8 +417,13 @@ public final class PacketUtils {
 
     @ApiStatus.Internal
     public static FramedPacket allocateTrimmedPacket(@NotNull ConnectionState state, @NotNull ServerPacket packet) {
+        return allocateTrimmedPacket(state, packet, MinecraftServer.getCompressionThreshold() > 0);
+    }
+
+    @ApiStatus.Internal
+    public static FramedPacket allocateTrimmedPacket(@NotNull ConnectionState state, @NotNull ServerPacket packet, boolean compression) {
         try (var hold = ObjectPool.PACKET_POOL.hold()) {
-            final ByteBuffer temp = PacketUtils.createFramedPacket(state, hold.get(), packet);
+            final ByteBuffer temp = PacketUtils.createFramedPacket(state, hold.get(), packet, compression);
             final int size = temp.remaining();
             final ByteBuffer buffer = ByteBuffer.allocateDirect(size).put(0, temp, 0, size);
             return new FramedPacket(packet, buffer);
@@ -320,44 +433,93 @@ public final class PacketUtils {
     private static final class ViewableStorage {
         // Player id -> list of offsets to ignore (32:32 bits)
         private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
-        private final BinaryBuffer buffer = ObjectPool.BUFFER_POOL.getAndRegister(this);
+        // Packets of the buffer and their offsets, given to the viewers to apply their backpressure policy
+        private final List<ServerPacket> packets = new ArrayList<>();
+        private final IntArrayList packetOffsets = new IntArrayList();
+        // Replaced on each flush, previous buffers are returned to the pool once written to every viewer
+        private final AtomicReference<BinaryBuffer> bufferRef = new AtomicReference<>(ObjectPool.BUFFER_POOL.get());
+
+        {
+            ObjectPool.BUFFER_POOL.register(this, bufferRef);
+        }
 
         private synchronized void append(Viewable viewable, ServerPacket serverPacket, @Nullable Player exception) {
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                // Viewable storage is only used for play packets, so fine to assume this.
-                final ByteBuffer framedPacket = createFramedPacket(ConnectionState.PLAY, hold.get(), serverPacket);
-                final int packetSize = framedPacket.limit();
-                if (packetSize >= buffer.capacity()) {
+            // Viewable storage is only used for play packets, so fine to assume this.
+            final int threshold = MinecraftServer.getCompressionThreshold();
+            final PacketCompressor compressor = MinecraftServer.getPacketCompressor();
+            final int headerSize = framedHeaderSize(threshold);
+            BinaryBuffer buffer = bufferRef.getPlain();
+            int start = buffer.writerOffset();
+            // Keep a free byte, buffers cannot be completely filled
+            ByteBuffer target = buffer.asByteBuffer(start, buffer.capacity() - start - 1);
+            // Resizable, the content grows out of the storage instead of overflowing it
+            final NetworkBuffer content = new NetworkBuffer(target, true);
+            content.skipWrite(headerSize);
+            content.write(NetworkBuffer.VAR_INT, serverPacket.getId(ConnectionState.PLAY));
+            content.write(serverPacket);
+            final int contentSize = content.writeIndex() - headerSize;
+            if (content.writeIndex() > target.capacity()) {
+                // Storage full, move the serialized content instead of writing the packet again
+                final byte[] bytes = new byte[contentSize];
+                content.copyTo(headerSize, bytes, 0, contentSize);
+                if (start != 0) {
+                    // Send the pending packets to make room
                     process(viewable);
+                    buffer = bufferRef.getPlain();
+                    start = 0;
+                }
+                if (!buffer.canWrite(headerSize + contentSize)) {
+                    // Packet larger than the storage, framed once for all the viewers
+                    final ByteBuffer body = ByteBuffer.allocateDirect(headerSize + contentSize).put(headerSize, bytes);
+                    body.limit(frame(body, 0, contentSize, serverPacket, threshold, compressor)).position(0);
+                    final FramedPacket framedPacket = new FramedPacket(serverPacket, body);
                     for (Player viewer : viewable.getViewers()) {
-                        if (!Objects.equals(exception, viewer)) {
-                            writeTo(viewer.getPlayerConnection(), framedPacket, 0, packetSize);
-                        }
+                        if (!Objects.equals(exception, viewer)) viewer.sendPacket(framedPacket);
                     }
                     return;
                 }
-                if (!buffer.canWrite(packetSize)) process(viewable);
-                final int start = buffer.writerOffset();
-                this.buffer.write(framedPacket);
-                final int end = buffer.writerOffset();
-                if (exception != null) {
-                    final long offsets = (long) start << 32 | end & 0xFFFFFFFFL;
-                    LongList list = entityIdMap.computeIfAbsent(exception.getEntityId(), id -> new LongArrayList());
-                    list.add(offsets);
-                }
+                target = buffer.asByteBuffer(0, buffer.capacity() - 1).put(headerSize, bytes);
             }
+            final int packetSize = frame(target, 0, contentSize, serverPacket, threshold, compressor);
+            buffer.writerOffset(start + packetSize);
+            recordStatistics(viewable, serverPacket, exception, buffer.asByteBuffer(), start, packetSize);
+            this.packets.add(serverPacket);
+            this.packetOffsets.add(start);
+            if (exception != null) {
+                final long offsets = (long) start << 32 | (start + packetSize) & 0xFFFFFFFFL;
+                LongList list = entityIdMap.computeIfAbsent(exception.getEntityId(), id -> new LongArrayList());
+                list.add(offsets);
+            }
+        }
+
+        private static void recordStatistics(Viewable viewable, ServerPacket serverPacket, @Nullable Player exception,
+                                             ByteBuffer buffer, int index, int length) {
+            // Grouped packets are only counted in the server totals
+            int viewers = viewable.getViewers().size();
+            if (exception != null && viewable.getViewers().contains(exception)) viewers--;
+            if (viewers <= 0) return;
+            final int rawSize = framedPacketSize(buffer, index, MinecraftServer.getCompressionThreshold() > 0);
+            PacketStatistics.global().record(PacketStatistics.Direction.OUTBOUND, ConnectionState.PLAY,
+                    serverPacket.getId(ConnectionState.PLAY), viewers, (long) rawSize * viewers, (long) length * viewers);
         }
 
         private synchronized void process(Viewable viewable) {
+            final BinaryBuffer buffer = bufferRef.getPlain();
             if (buffer.writerOffset() == 0) return;
-            ByteBuffer copy = ByteBuffer.allocateDirect(buffer.writerOffset());
-            copy.put(buffer.asByteBuffer(0, copy.capacity()));
-            viewable.getViewers().forEach(player -> processPlayer(player, copy));
-            this.buffer.clear();
+            // Share the buffer with the viewers instead of copying it
+            final SharedBuffer shared = new SharedBuffer(buffer);
+            final ByteBuffer view = buffer.asByteBuffer(0, buffer.writerOffset());
+            final GroupedPackets grouped = new GroupedPackets(packets.toArray(ServerPacket[]::new),
+                    packetOffsets.toIntArray(), buffer.writerOffset());
+            viewable.getViewers().forEach(player -> processPlayer(player, view, grouped, shared));
+            this.bufferRef.set(ObjectPool.BUFFER_POOL.get());
+            shared.release();
             this.entityIdMap.clear();
+            this.packets.clear();
+            this.packetOffsets.clear();
         }
 
-        private void processPlayer(Player player, ByteBuffer buffer) {
+        private void processPlayer(Player player, ByteBuffer buffer, GroupedPackets grouped, SharedBuffer shared) {
             final int size = buffer.limit();
             final PlayerConnection connection = player.getPlayerConnection();
             final LongArrayList pairs = entityIdMap.get(player.getEntityId());
@@ -368,25 +530,67 @@ public final class PacketUtils {
                 for (int i = 0; i < pairs.size(); ++i) {
                     final long offsets = elements[i];
                     final int start = (int) (offsets >> 32);
-                    if (start != lastWrite) writeTo(connection, buffer, lastWrite, start - lastWrite);
+                    if (start != lastWrite) writeTo(connection, buffer, lastWrite, start - lastWrite, grouped, shared);
                     lastWrite = (int) offsets; // End = last 32 bits
                 }
-                if (size != lastWrite) writeTo(connection, buffer, lastWrite, size - lastWrite);
+                if (size != lastWrite) writeTo(connection, buffer, lastWrite, size - lastWrite, grouped, shared);
             } else {
                 // Write all
-                writeTo(connection, buffer, 0, size);
+                writeTo(connection, buffer, 0, size, grouped, shared);
             }
         }
 
-        private static void writeTo(PlayerConnection connection, ByteBuffer buffer, int offset, int length) {
+        private static void writeTo(PlayerConnection connection, ByteBuffer buffer, int offset, int length,
+                                    GroupedPackets grouped, SharedBuffer shared) {
             if (connection instanceof PlayerSocketConnection socketConnection) {
-                socketConnection.write(buffer, offset, length);
+                shared.retain();
+                socketConnection.write(buffer, offset, length, grouped, shared::release);
                 return;
             }
             // TODO for non-socket connection
         }
     }
 
+    /**
+     * Packets framed one after the other in a shared buffer.
+     *
+     * @param packets the framed packets, in order
+     * @param offsets the index of each packet in the buffer
+     * @param size    the index following the last packet
+     */
+    @ApiStatus.Internal
+    public record GroupedPackets(@NotNull ServerPacket @NotNull [] packets, int @NotNull [] offsets, int size) {
+        /**
+         * Gets the index following the packet at {@code index}.
+         *
+         * @param index the packet index
+         * @return the end of the framed packet
+         */
+        public int end(int index) {
+            return index + 1 < offsets.length ? offsets[index + 1] : size;
+        }
+    }
+
+    /**
+     * Storage buffer referenced by pending connection writes, returned to the pool after the last one.
+     */
+    private static final class SharedBuffer {
+        private final BinaryBuffer buffer;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        SharedBuffer(BinaryBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        void retain() {
+            this.references.incrementAndGet();
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) ObjectPool.BUFFER_POOL.add(buffer);
+        }
+    }
+
     @ApiStatus.Internal
     public static int invalidPacketState(@NotNull Class<?> packetClass, @NotNull ConnectionState state, @NotNull ConnectionState... expected) {
         assert expected.length > 0 : "Expected states cannot be empty: " + packetClass;
@@ -397,4 +601,15 @@ public final class PacketUtils {
         expectedStr.delete(expectedStr.length() - 2, expectedStr.length());
         throw new IllegalStateException(String.format("Packet %s is not valid in state %s (only %s)", packetClass.getSimpleName(), state, expectedStr));
     }
+
+    @FunctionalInterface
+    @ApiStatus.Internal
+    public interface PacketConsumer {
+        /**
+         * @param id        the packet id
+         * @param payload   the packet payload, positioned after the id
+         * @param frameSize the number of bytes read from the socket for this packet
+         */
+        void accept(int id, @NotNull ByteBuffer payload, int frameSize);
+    }
 }
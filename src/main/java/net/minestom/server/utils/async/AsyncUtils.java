@@ -5,6 +5,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @ApiStatus.Internal
 public final class AsyncUtils {
@@ -24,4 +25,14 @@ public final class AsyncUtils {
             }
         });
     }
+
+    public static @NotNull CompletableFuture<Void> runAsync(@NotNull Runnable runnable, @NotNull Executor executor) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                runnable.run();
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }, executor);
+    }
 }
@@ -39,7 +39,7 @@ public final class BinaryBuffer {
     public static BinaryBuffer copy(BinaryBuffer buffer) {
         final int size = buffer.readableBytes();
         final var temp = ByteBuffer.allocateDirect(size)
-                .put(buffer.asByteBuffer(0, size));
+                .put(buffer.asByteBuffer(buffer.readerOffset, size));
         BinaryBuffer newBuffer = new BinaryBuffer(temp);
         newBuffer.writerOffset = size;
         return newBuffer;
@@ -149,6 +149,15 @@ public final class BinaryBuffer {
         return nioBuffer;
     }
 
+    /**
+     * Gets a view of the bytes between the reader and writer offsets.
+     *
+     * @return the readable bytes
+     */
+    public ByteBuffer readableByteBuffer() {
+        return nioBuffer.slice(readerOffset, writerOffset - readerOffset);
+    }
+
     public boolean writeChannel(WritableByteChannel channel) throws IOException {
         if (readerOffset == writerOffset)
             return true; // Nothing to write
@@ -0,0 +1,141 @@
+package net.minestom.server;
+
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.SharedInstance;
+import net.minestom.server.thread.TickThread;
+import net.minestom.server.timer.ExecutionType;
+import net.minestom.server.world.DimensionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Instances ticked by the instance dispatcher, enabled with {@link ServerFlag#INSTANCE_TICK_THREADS}.
+ * <p>
+ * The flag is read once, the process is therefore created with its thread count directly.
+ */
+public class InstanceTickThreadsTest {
+    private ServerProcess process;
+
+    @BeforeEach
+    public void init() {
+        this.process = MinecraftServer.updateProcess(2);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        this.process.stop();
+    }
+
+    @Test
+    public void instancesBeforeChunks() {
+        assertNotNull(process.instanceDispatcher());
+        List<CountingInstance> instances = IntStream.range(0, 4).mapToObj(i -> register(new CountingInstance())).toList();
+        // Instance tick counts seen by an element of the chunk dispatcher
+        List<List<Integer>> observed = new CopyOnWriteArrayList<>();
+        var chunk = instances.get(0).loadChunk(0, 0).join();
+        process.dispatcher().updateElement((Tickable) time -> observed.add(instances.stream().map(instance -> instance.ticks.get()).toList()), chunk);
+
+        for (int tick = 1; tick <= 10; tick++) {
+            tick();
+            for (CountingInstance instance : instances) {
+                assertEquals(tick, instance.ticks.get());
+                assertInstanceOf(TickThread.class, instance.thread);
+                assertTrue(instance.thread.getName().startsWith(MinecraftServer.THREAD_NAME_INSTANCE_TICK));
+            }
+            assertEquals(List.of(tick, tick, tick, tick), observed.get(tick - 1));
+        }
+    }
+
+    @Test
+    public void sharedInstance() {
+        var container = register(new CountingInstance());
+        // Container tick count and thread seen by the shared instance
+        List<Integer> containerTicks = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        process.instance().registerSharedInstance(new SharedInstance(UUID.randomUUID(), container) {
+            @Override
+            public void tick(long time) {
+                containerTicks.add(container.ticks.get());
+                threads.add(Thread.currentThread());
+                super.tick(time);
+            }
+        });
+        // Other instances to spread
+        IntStream.range(0, 3).forEach(i -> register(new CountingInstance()));
+
+        for (int tick = 1; tick <= 10; tick++) {
+            tick();
+            assertEquals(tick, containerTicks.size());
+            assertEquals(tick, containerTicks.get(tick - 1));
+            assertSame(container.thread, threads.get(tick - 1));
+        }
+    }
+
+    @Test
+    public void unregister() {
+        var instance = register(new CountingInstance());
+        tick();
+        assertEquals(1, instance.ticks.get());
+
+        process.instance().unregisterInstance(instance);
+        tick();
+        tick();
+        assertEquals(1, instance.ticks.get());
+    }
+
+    @Test
+    public void tickEndTasks() {
+        var instance = register(new CountingInstance());
+        AtomicInteger chunkTicks = new AtomicInteger();
+        var chunk = instance.loadChunk(0, 0).join();
+        process.dispatcher().updateElement((Tickable) time -> chunkTicks.incrementAndGet(), chunk);
+        // Instance tick count, chunk tick count and thread seen by the task
+        List<List<Integer>> observed = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        instance.scheduler().buildTask(() -> {
+            observed.add(List.of(instance.ticks.get(), chunkTicks.get()));
+            threads.add(Thread.currentThread());
+        }).executionType(ExecutionType.TICK_END).schedule();
+
+        tick();
+        // Same tick as the instance, before the chunks
+        assertEquals(List.of(List.of(1, 0)), observed);
+        assertSame(instance.thread, threads.get(0));
+        assertEquals(1, chunkTicks.get());
+    }
+
+    private void tick() {
+        process.ticker().tick(System.nanoTime());
+    }
+
+    private <T extends Instance> T register(T instance) {
+        process.instance().registerInstance(instance);
+        return instance;
+    }
+
+    private static final class CountingInstance extends InstanceContainer {
+        private final AtomicInteger ticks = new AtomicInteger();
+        private volatile Thread thread;
+
+        CountingInstance() {
+            super(UUID.randomUUID(), DimensionType.OVERWORLD);
+        }
+
+        @Override
+        public void tick(long time) {
+            this.ticks.incrementAndGet();
+            this.thread = Thread.currentThread();
+            super.tick(time);
+        }
+    }
+}
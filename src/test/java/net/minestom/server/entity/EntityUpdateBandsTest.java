@@ -0,0 +1,185 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.EntityHeadLookPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionPacket;
+import net.minestom.server.network.packet.server.play.EntityTeleportPacket;
+import net.minestom.testing.Collector;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import net.minestom.testing.TestConnection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityUpdateBandsTest {
+    private static final EntityUpdateBands.Band[] BANDS = EntityUpdateBands.parse("16:1,48:2");
+
+    @Test
+    public void parse() {
+        assertEquals(0, EntityUpdateBands.parse(null).length);
+        assertEquals(0, EntityUpdateBands.parse(" ").length);
+
+        var bands = EntityUpdateBands.parse("48:2, 16:1,96:4");
+        assertArrayEquals(new EntityUpdateBands.Band[]{
+                new EntityUpdateBands.Band(16, 1),
+                new EntityUpdateBands.Band(48, 2),
+                new EntityUpdateBands.Band(96, 4)
+        }, bands);
+
+        assertThrows(IllegalArgumentException.class, () -> EntityUpdateBands.parse("16"));
+        assertThrows(IllegalArgumentException.class, () -> EntityUpdateBands.parse("16:0"));
+    }
+
+    @Test
+    public void band() {
+        var bands = EntityUpdateBands.parse("16:1,48:2,96:4");
+        assertEquals(0, EntityUpdateBands.band(bands, 0));
+        assertEquals(0, EntityUpdateBands.band(bands, 16 * 16));
+        assertEquals(1, EntityUpdateBands.band(bands, 17 * 17));
+        assertEquals(2, EntityUpdateBands.band(bands, 96 * 96));
+        // Farther viewers use the last band
+        assertEquals(2, EntityUpdateBands.band(bands, 200 * 200));
+    }
+
+    @Test
+    public void size() {
+        assertEquals(0, EntityUpdateBands.size(List.of()));
+        assertEquals(1 + 1 + 7, EntityUpdateBands.size(List.of(new EntityPositionPacket(5, (short) 0, (short) 0, (short) 0, true))));
+        assertEquals(1 + 2 + 27 + 1 + 2 + 1, EntityUpdateBands.size(List.of(
+                new EntityTeleportPacket(200, Pos.ZERO, true), new EntityHeadLookPacket(200, 0))));
+    }
+
+    @Test
+    public void intervals(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance);
+        var nearConnection = env.createConnection();
+        var near = nearConnection.connect(instance, new Pos(0, 40, 2)).join();
+        var farConnection = env.createConnection();
+        var far = farConnection.connect(instance, new Pos(0, 40, 32)).join();
+        assertTrue(entity.getViewers().containsAll(List.of(near, far)));
+
+        var counters = new EntityUpdateBands.Counters(BANDS.length);
+        var tracker = new EntityUpdateBands.Tracker(BANDS, counters, at(0));
+        final int fullRateSize = EntityUpdateBands.size(move(entity, 1));
+
+        // Both bands are due, new viewers receive the absolute position
+        var nearTeleports = nearConnection.trackIncoming(EntityTeleportPacket.class);
+        var farTeleports = farConnection.trackIncoming(EntityTeleportPacket.class);
+        assertFalse(tracker.synchronize(entity, 0, at(1), move(entity, 1)));
+        nearTeleports.assertSingle(packet -> assertEquals(at(1), packet.position()));
+        farTeleports.assertSingle(packet -> assertEquals(at(1), packet.position()));
+
+        // Only the near band is due
+        var nearMoves = nearConnection.trackIncoming(EntityPositionPacket.class);
+        var farMoves = farConnection.trackIncoming(EntityPositionPacket.class);
+        assertTrue(tracker.synchronize(entity, 1, at(2), move(entity, 2)));
+        assertDeltas(nearMoves, 1);
+        farMoves.assertEmpty();
+
+        // The far band receives the movement of both ticks
+        nearMoves = nearConnection.trackIncoming(EntityPositionPacket.class);
+        farMoves = farConnection.trackIncoming(EntityPositionPacket.class);
+        assertFalse(tracker.synchronize(entity, 2, at(3), move(entity, 3)));
+        assertDeltas(nearMoves, 1);
+        assertDeltas(farMoves, 2);
+
+        // Pending update without movement
+        assertTrue(tracker.synchronize(entity, 3, at(4), move(entity, 4)));
+        farMoves = farConnection.trackIncoming(EntityPositionPacket.class);
+        assertFalse(tracker.synchronize(entity, 4, at(4), List.of()));
+        assertDeltas(farMoves, 1);
+
+        assertEquals(4, counters.updates[0].sum());
+        assertEquals(3, counters.updates[1].sum());
+        assertEquals(4L * fullRateSize, counters.fullRateBytes[0].sum());
+        // Ticks without movement are not counted
+        assertEquals(4L * fullRateSize, counters.fullRateBytes[1].sum());
+        assertEquals(EntityUpdateBands.size(List.of(new EntityTeleportPacket(entity.getEntityId(), at(1), true),
+                new EntityHeadLookPacket(entity.getEntityId(), 0))) + 2L * fullRateSize, counters.sentBytes[1].sum());
+    }
+
+    @Test
+    public void bandChange(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance);
+        var nearConnection = env.createConnection();
+        var near = nearConnection.connect(instance, new Pos(0, 40, 2)).join();
+        var farConnection = env.createConnection();
+        var far = farConnection.connect(instance, new Pos(0, 40, 32)).join();
+        assertTrue(entity.getViewers().containsAll(List.of(near, far)));
+
+        var tracker = new EntityUpdateBands.Tracker(BANDS, new EntityUpdateBands.Counters(BANDS.length), at(0));
+        tracker.synchronize(entity, 0, at(1), move(entity, 1));
+
+        // The far viewer does not know the position of the near band
+        far.teleport(new Pos(0, 40, 4)).join();
+        var nearMoves = nearConnection.trackIncoming(EntityPositionPacket.class);
+        var farTeleports = farConnection.trackIncoming(EntityTeleportPacket.class);
+        var farMoves = farConnection.trackIncoming(EntityPositionPacket.class);
+        tracker.synchronize(entity, 1, at(2), move(entity, 2));
+        assertDeltas(nearMoves, 1);
+        farTeleports.assertSingle(packet -> assertEquals(at(2), packet.position()));
+        farMoves.assertEmpty();
+
+        // Back to relative movement once synchronized
+        farMoves = farConnection.trackIncoming(EntityPositionPacket.class);
+        tracker.synchronize(entity, 3, at(3), move(entity, 3));
+        assertDeltas(farMoves, 1);
+    }
+
+    @Test
+    public void newViewer(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance);
+        var nearConnection = env.createConnection();
+        var near = nearConnection.connect(instance, new Pos(0, 40, 2)).join();
+        var farConnection = env.createConnection();
+        var far = farConnection.connect(instance, new Pos(0, 40, 32)).join();
+        assertTrue(entity.getViewers().containsAll(List.of(near, far)));
+
+        var tracker = new EntityUpdateBands.Tracker(BANDS, new EntityUpdateBands.Counters(BANDS.length), at(0));
+        tracker.synchronize(entity, 0, at(1), move(entity, 1));
+
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 40, 6)).join();
+        assertTrue(entity.getViewers().contains(player));
+        var nearMoves = nearConnection.trackIncoming(EntityPositionPacket.class);
+        var teleports = connection.trackIncoming(EntityTeleportPacket.class);
+        var moves = connection.trackIncoming(EntityPositionPacket.class);
+        tracker.synchronize(entity, 1, at(2), move(entity, 2));
+        assertDeltas(nearMoves, 1);
+        teleports.assertSingle(packet -> assertEquals(at(2), packet.position()));
+        moves.assertEmpty();
+    }
+
+    private static Entity spawn(Instance instance) {
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, at(0)).join();
+        return entity;
+    }
+
+    private static Pos at(int x) {
+        return new Pos(x, 40, 0);
+    }
+
+    /**
+     * Gets the packets moving the entity by one block to {@code at(x)}.
+     */
+    private static List<ServerPacket> move(Entity entity, int x) {
+        return entity.movementPackets(at(x), at(x - 1), false);
+    }
+
+    private static void assertDeltas(Collector<EntityPositionPacket> collector, int blocks) {
+        collector.assertSingle(packet -> {
+            assertEquals(blocks * 4096, packet.deltaX());
+            assertEquals(0, packet.deltaZ());
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package net.minestom.server.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void buckets() {
+        for (long value : new long[]{0, 1, 63, 64, 65, 127, 128, 1_000, 1_000_000, Long.MAX_VALUE}) {
+            final int index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.highestValue(index) >= value, "bucket too low for " + value);
+            if (index > 0) assertTrue(LatencyHistogram.highestValue(index - 1) < value, "bucket too high for " + value);
+        }
+    }
+
+    @Test
+    public void percentiles() {
+        var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(50));
+        for (int i = 1; i <= 1000; i++) histogram.record(i * 1_000L);
+        assertEquals(1000, histogram.count());
+        assertEquals(1_000_000, histogram.max());
+
+        var snapshot = histogram.snapshot();
+        assertEquals(500_000, snapshot.p50(), 500_000 * 0.032);
+        assertEquals(990_000, snapshot.p99(), 990_000 * 0.032);
+        assertEquals(1_000_000, snapshot.p999(), 1_000_000 * 0.032);
+        assertEquals(500_500, snapshot.mean(), 0.1);
+
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.snapshot().p99());
+    }
+}
@@ -0,0 +1,91 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.client.common.ClientPluginMessagePacket;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.PacketUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static net.minestom.server.monitoring.PacketStatistics.Direction.INBOUND;
+import static net.minestom.server.monitoring.PacketStatistics.Direction.OUTBOUND;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PacketStatisticsTest {
+
+    @Test
+    public void singleWriter() {
+        counters(PacketStatistics::singleWriter);
+    }
+
+    @Test
+    public void concurrent() {
+        counters(PacketStatisticsImpl.Concurrent::new);
+    }
+
+    @Test
+    public void singleWriterGrowth() {
+        var statistics = (PacketStatisticsImpl.SingleWriter) PacketStatistics.singleWriter();
+        // Sized for the packet types seen, not for every possible one
+        statistics.record(INBOUND, ConnectionState.LOGIN, 0, 1, 10, 10);
+        assertTrue(statistics.capacity() <= 16);
+
+        for (int id = 0; id < 100; id++) {
+            statistics.record(INBOUND, ConnectionState.PLAY, id, 1, id, id);
+            statistics.record(OUTBOUND, ConnectionState.PLAY, id, 2, id, id);
+        }
+        assertTrue(statistics.capacity() >= 200 && statistics.capacity() <= 512);
+        for (int id = 0; id < 100; id++) {
+            assertEquals(new PacketStatistics.Counters(1, id, id), statistics.get(INBOUND, ConnectionState.PLAY, id));
+            assertEquals(new PacketStatistics.Counters(2, id, id), statistics.get(OUTBOUND, ConnectionState.PLAY, id));
+        }
+        assertEquals(new PacketStatistics.Counters(1, 10, 10), statistics.get(INBOUND, ConnectionState.LOGIN, 0));
+        assertEquals(PacketStatistics.Counters.EMPTY, statistics.get(INBOUND, ConnectionState.CONFIGURATION, 0));
+        assertEquals(101, statistics.entries(INBOUND).size());
+    }
+
+    private static void counters(Supplier<PacketStatistics> supplier) {
+        var statistics = supplier.get();
+        assertEquals(PacketStatistics.Counters.EMPTY, statistics.get(INBOUND, ConnectionState.PLAY, 0x10));
+
+        statistics.record(INBOUND, ConnectionState.PLAY, 0x10, 1, 100, 40);
+        statistics.record(INBOUND, ConnectionState.PLAY, 0x10, 1, 100, 40);
+        statistics.record(INBOUND, ConnectionState.PLAY, 0x20, 1, 10, 12);
+        statistics.record(OUTBOUND, ConnectionState.LOGIN, 0x10, 5, 50, 60);
+        // Ignored
+        statistics.record(INBOUND, ConnectionState.PLAY, -1, 1, 10, 10);
+        statistics.record(INBOUND, ConnectionState.PLAY, PacketStatistics.MAX_PACKET_ID, 1, 10, 10);
+
+        var counters = statistics.get(INBOUND, ConnectionState.PLAY, 0x10);
+        assertEquals(new PacketStatistics.Counters(2, 200, 80), counters);
+        assertEquals(0.4, counters.compressionRatio(), 1e-9);
+        assertEquals(new PacketStatistics.Counters(2 + 1, 200 + 10, 80 + 12), statistics.total(INBOUND));
+        assertEquals(new PacketStatistics.Counters(5, 50, 60), statistics.total(OUTBOUND));
+
+        List<PacketStatistics.Entry> entries = statistics.entries(INBOUND);
+        assertEquals(2, entries.size());
+        assertEquals(0x10, entries.get(0).packetId());
+        assertEquals(0x20, entries.get(1).packetId());
+        assertEquals(ConnectionState.PLAY, entries.get(1).state());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void framedPacketSize(boolean compressed) {
+        for (int size : new int[]{10, 2000}) {
+            var packet = new ClientPluginMessagePacket("channel", new byte[size]);
+            var buffer = ObjectPool.PACKET_POOL.get();
+            PacketUtils.writeFramedPacket(buffer, 0x0A, packet, 0);
+            // Uncompressed frame: 3 bytes length header
+            final int rawSize = buffer.position() - 3;
+
+            buffer.clear();
+            PacketUtils.writeFramedPacket(buffer, 0x0A, packet, compressed ? 256 : 0);
+            assertEquals(rawSize, PacketUtils.framedPacketSize(buffer, 0, compressed));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.event.server.ServerTickProfileEvent;
+import net.minestom.server.network.ConnectionManager;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class TickProfilerIntegrationTest {
+
+    @Test
+    public void phases(Env env) {
+        var profiler = env.process().benchmark().getTickProfiler();
+        final long ticks = profiler.phase(TickProfiler.Phase.TOTAL).count();
+        env.tick();
+        for (TickProfiler.Phase phase : TickProfiler.Phase.values()) {
+            assertTrue(profiler.phase(phase).count() > ticks, phase.name());
+        }
+        final long[] lastTick = profiler.lastTick();
+        final long total = lastTick[TickProfiler.Phase.TOTAL.ordinal()];
+        assertTrue(lastTick[TickProfiler.Phase.DISPATCHER.ordinal()] <= total);
+        assertTrue(lastTick[TickProfiler.Phase.WAITING_PLAYERS.ordinal()] <= lastTick[TickProfiler.Phase.CONNECTION.ordinal()]);
+    }
+
+    @Test
+    public void instance(Env env) {
+        var profiler = env.process().benchmark().getTickProfiler();
+        var instance = env.createFlatInstance();
+        assertNull(profiler.instance(instance));
+        env.tick();
+        var histogram = profiler.instance(instance);
+        assertNotNull(histogram);
+        assertEquals(1, histogram.count());
+        assertTrue(profiler.snapshot().instances().containsKey(instance.getUniqueId()));
+    }
+
+    @Test
+    public void threads(Env env) {
+        var profiler = env.process().benchmark().getTickProfiler();
+        var threads = env.process().dispatcher().threads();
+        assertEquals(Set.copyOf(threads), profiler.threads().keySet());
+
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        env.tick();
+        final long ticks = threads.stream().mapToLong(thread -> profiler.thread(thread).count()).sum();
+        assertTrue(ticks > 0);
+        assertTrue(profiler.snapshot().threads().containsKey(threads.get(0).getName()));
+    }
+
+    @Test
+    public void processes(Env env) {
+        // Each process records into its own profiler
+        var profiler = env.process().benchmark().getTickProfiler();
+        var other = new BenchmarkManager().getTickProfiler();
+        assertNotSame(profiler, other);
+        env.tick();
+        assertTrue(profiler.phase(TickProfiler.Phase.TOTAL).count() > 0);
+        assertEquals(0, other.phase(TickProfiler.Phase.TOTAL).count());
+
+        // Including the phases recorded by the managers
+        final long waitingPlayers = profiler.phase(TickProfiler.Phase.WAITING_PLAYERS).count();
+        new ConnectionManager(other).tick(System.currentTimeMillis());
+        assertEquals(1, other.phase(TickProfiler.Phase.WAITING_PLAYERS).count());
+        assertEquals(waitingPlayers, profiler.phase(TickProfiler.Phase.WAITING_PLAYERS).count());
+    }
+
+    @Test
+    public void event(Env env) {
+        var listener = env.listen(ServerTickProfileEvent.class);
+        listener.followup(event -> {
+            assertSame(env.process().benchmark().getTickProfiler(), event.getProfiler());
+            assertTrue(event.getDuration(TickProfiler.Phase.TOTAL) >= event.getDuration(TickProfiler.Phase.SERVER));
+        });
+        env.tick();
+    }
+}
@@ -0,0 +1,48 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.event.player.AsyncPlayerConfigurationEvent;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import net.minestom.testing.bot.Bot;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class BotIntegrationTest {
+
+    @Test
+    public void join(Env env) throws Exception {
+        var instance = env.createFlatInstance();
+        env.process().eventHandler().addListener(AsyncPlayerConfigurationEvent.class, event -> {
+            event.setSpawningInstance(instance);
+            event.getPlayer().setRespawnPoint(new Pos(0, 40, 0));
+        });
+        env.process().start(new InetSocketAddress("localhost", 0));
+        final int port = env.process().server().getPort();
+
+        // The bot goes through the handshake, login and configuration with its own packet ids
+        Bot bot = Bot.connect(new InetSocketAddress("localhost", port), "Bot");
+        try {
+            assertTrue(env.tickWhile(() -> !bot.isPlaying(), Duration.ofSeconds(10)),
+                    () -> "Bot did not join, state " + bot.state());
+            assertEquals(ConnectionState.PLAY, bot.state());
+            assertEquals(new Pos(0, 40, 0), bot.position());
+
+            var player = env.process().connection().getOnlinePlayerByUsername("Bot");
+            assertNotNull(player);
+            assertEquals(instance, player.getInstance());
+
+            // Play packets
+            bot.move(new Pos(1, 40, 0));
+            assertTrue(env.tickWhile(() -> player.getPosition().x() != 1, Duration.ofSeconds(10)),
+                    () -> "Bot movement not received, position " + player.getPosition());
+        } finally {
+            bot.close();
+        }
+    }
+}
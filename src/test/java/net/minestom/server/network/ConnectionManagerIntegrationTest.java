@@ -0,0 +1,53 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ConnectionManagerIntegrationTest {
+
+    @Test
+    public void lookup(Env env) {
+        var manager = env.process().connection();
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+
+        assertSame(player, manager.getOnlinePlayerByUuid(player.getUuid()));
+        assertSame(player, manager.getOnlinePlayerByUsername(player.getUsername().toUpperCase()));
+        assertSame(player, manager.getOnlinePlayerById(player.getEntityId()));
+        assertSame(player, manager.findOnlinePlayer(player.getUsername()));
+        assertNull(manager.getOnlinePlayerByUuid(UUID.randomUUID()));
+        assertNull(manager.getOnlinePlayerById(-1));
+
+        manager.removePlayer(player.getPlayerConnection());
+        assertNull(manager.getOnlinePlayerByUuid(player.getUuid()));
+        assertNull(manager.getOnlinePlayerByUsername(player.getUsername()));
+        assertNull(manager.getOnlinePlayerById(player.getEntityId()));
+    }
+
+    @Test
+    public void snapshotIteration(Env env) {
+        var manager = env.process().connection();
+        var instance = env.createFlatInstance();
+        var player1 = env.createPlayer(instance, new Pos(0, 40, 0));
+        var players = manager.getOnlinePlayers();
+        assertEquals(1, players.size());
+        assertTrue(players.contains(player1));
+
+        // The view is live, its iteration is not affected by concurrent changes
+        var iterator = players.iterator();
+        var player2 = env.createPlayer(instance, new Pos(0, 40, 0));
+        assertEquals(List.of(player1), List.of(iterator.next()));
+        assertFalse(iterator.hasNext());
+        assertEquals(2, players.size());
+        assertTrue(players.contains(player2));
+        assertThrows(UnsupportedOperationException.class, () -> players.remove(player1));
+    }
+}
@@ -0,0 +1,74 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerRegistryTest {
+
+    @BeforeAll
+    public static void init() {
+        MinecraftServer.init();
+    }
+
+    @Test
+    public void lookup() {
+        var registry = new PlayerRegistry();
+        var player = player(UUID.randomUUID(), "Player");
+        assertTrue(registry.add(player));
+        assertFalse(registry.add(player));
+        assertSame(player, registry.byUuid(player.getUuid()));
+        assertSame(player, registry.byUsername("PLAYER"));
+        assertSame(player, registry.byEntityId(player.getEntityId()));
+        assertEquals(List.of(player), registry.snapshot());
+
+        assertTrue(registry.remove(player));
+        assertFalse(registry.remove(player));
+        assertNull(registry.byUuid(player.getUuid()));
+        assertNull(registry.byUsername("Player"));
+        assertNull(registry.byEntityId(player.getEntityId()));
+        assertEquals(List.of(), registry.snapshot());
+    }
+
+    @Test
+    public void duplicates() {
+        var registry = new PlayerRegistry();
+        final UUID uuid = UUID.randomUUID();
+        var first = player(uuid, "Player");
+        var second = player(uuid, "player");
+        registry.add(first);
+        registry.add(second);
+        // Last added player wins
+        assertSame(second, registry.byUuid(uuid));
+        assertSame(second, registry.byUsername("Player"));
+
+        // The remaining player is still indexed
+        registry.remove(second);
+        assertSame(first, registry.byUuid(uuid));
+        assertSame(first, registry.byUsername("Player"));
+
+        registry.add(second);
+        registry.remove(first);
+        assertSame(second, registry.byUuid(uuid));
+        assertSame(second, registry.byUsername("Player"));
+
+        registry.remove(second);
+        assertNull(registry.byUuid(uuid));
+        assertNull(registry.byUsername("Player"));
+        assertEquals(0, registry.size());
+    }
+
+    private static Player player(UUID uuid, String username) {
+        return new Player(uuid, username, null) {
+            @Override
+            protected void playerConnectionInit() {
+            }
+        };
+    }
+}
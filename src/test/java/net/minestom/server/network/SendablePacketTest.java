@@ -41,4 +41,31 @@ public class SendablePacketTest {
 
         assertSame(packet, cached.packet(ConnectionState.PLAY));
     }
+
+    @Test
+    public void cachedStatistics() {
+        var packet = new SystemChatPacket(Component.text("Hello World!"), false);
+        var statistics = new CachedPacket.Statistics();
+        var cached = new CachedPacket(() -> packet, statistics);
+
+        // Raw access does not frame the packet
+        assertSame(packet, cached.rawPacket());
+        assertFalse(cached.isValid());
+        assertEquals(0, statistics.misses());
+
+        var framed = cached.framedPacket(ConnectionState.PLAY);
+        assertNotNull(framed);
+        assertEquals(1, statistics.misses());
+        assertEquals(0, statistics.hits());
+        // May fail in the very unlikely case where soft references are cleared
+        assertSame(framed, cached.framedPacket(ConnectionState.PLAY));
+        assertSame(packet, cached.rawPacket());
+        assertEquals(1, statistics.misses());
+        assertEquals(1, statistics.hits());
+
+        cached.invalidate();
+        assertNotSame(framed, cached.framedPacket(ConnectionState.PLAY));
+        assertEquals(2, statistics.misses());
+        assertEquals(1, statistics.hits());
+    }
 }
@@ -1,6 +1,7 @@
 package net.minestom.server.network;
 
 import it.unimi.dsi.fastutil.Pair;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.network.packet.client.common.ClientPluginMessagePacket;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
@@ -13,6 +14,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -115,6 +117,7 @@ public class SocketReadTest {
                 (integer, payload) -> packets.add(Pair.of(integer, payload)));
         assertNotNull(remaining);
         assertEquals(1, remaining.readableBytes());
+        assertEquals((byte) -85, remaining.asByteBuffer().get(remaining.readerOffset()));
 
         assertEquals(1, packets.size());
         var rawPacket = packets.get(0);
@@ -123,4 +126,31 @@ public class SocketReadTest {
         assertEquals("channel", readPacket.channel());
         assertEquals(2000, readPacket.data().length);
     }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void reusedInflater(boolean compressed) throws DataFormatException {
+        // Decompression state must not leak between reads
+        var inflater = new Inflater();
+        var contentBuffer = ByteBuffer.allocateDirect(ServerFlag.MAX_PACKET_SIZE);
+        for (int i = 0; i < 3; i++) {
+            var packet = new ClientPluginMessagePacket("channel" + i, new byte[2000 + i]);
+
+            var buffer = ObjectPool.PACKET_POOL.get();
+            PacketUtils.writeFramedPacket(buffer, 0x0A, packet, compressed ? 256 : 0);
+
+            var wrapper = BinaryBuffer.wrap(buffer);
+            wrapper.reset(0, buffer.position());
+
+            List<ClientPluginMessagePacket> packets = new ArrayList<>();
+            var remaining = PacketUtils.readPackets(wrapper, compressed, inflater, contentBuffer,
+                    (integer, payload) -> packets.add(new ClientPluginMessagePacket(new NetworkBuffer(payload))));
+            assertNull(remaining);
+
+            assertEquals(1, packets.size());
+            assertEquals("channel" + i, packets.get(0).channel());
+            assertEquals(2000 + i, packets.get(0).data().length);
+        }
+        inflater.end();
+    }
 }
@@ -1,5 +1,6 @@
 package net.minestom.server.network;
 
+import net.minestom.server.network.compression.PacketCompressor;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
@@ -13,6 +14,7 @@ import static net.minestom.server.network.NetworkBuffer.INT;
 import static net.minestom.server.network.NetworkBuffer.STRING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SocketWriteTest {
 
@@ -79,6 +81,41 @@ public class SocketWriteTest {
         // 3 bytes packet length [var-int] + 3 bytes data length [var-int] + 1 byte packet id [var-int] + payload
         // The 3 bytes var-int length is hardcoded for performance purpose, could change in the future
         assertNotEquals(3 + 3 + 1 + lengthLength + stringLength, buffer.position(), "Buffer position does not account for compression");
+        assertTrue(buffer.position() < 3 + 3 + 1 + lengthLength + stringLength, "Compressed packet should be smaller");
+    }
+
+    @Test
+    public void writeSingleCompressedSkipped() {
+        var string = "Hello world!".repeat(200);
+        var stringLength = string.getBytes(StandardCharsets.UTF_8).length;
+        var lengthLength = Utils.getVarIntSize(stringLength);
+
+        var packet = new CompressiblePacket(string);
+        var compressor = PacketCompressor.jdkBuilder().skip(CompressiblePacket.class).build();
+
+        var buffer = ObjectPool.PACKET_POOL.get();
+        PacketUtils.writeFramedPacket(ConnectionState.PLAY, buffer, packet, true, compressor);
+
+        // Packet is sent uncompressed with a data length of 0
+        assertEquals(3 + 3 + 1 + lengthLength + stringLength, buffer.position(), "Invalid buffer position");
+        assertEquals(0, buffer.get(3) & 0x7F, "Data length should be 0");
+        assertEquals(1, compressor.statistics().skipped());
+        assertEquals(0, compressor.statistics().packets());
+    }
+
+    @Test
+    public void compressorStatistics() {
+        var string = "Hello world!".repeat(200);
+        var packet = new CompressiblePacket(string);
+        var compressor = PacketCompressor.jdkBuilder().level(1).build();
+
+        var buffer = ObjectPool.PACKET_POOL.get();
+        PacketUtils.writeFramedPacket(ConnectionState.PLAY, buffer, packet, true, compressor);
+
+        var statistics = compressor.statistics();
+        assertEquals(1, statistics.packets());
+        assertEquals(buffer.position() - 3 - 3, statistics.bytesOut());
+        assertTrue(statistics.bytesIn() > statistics.bytesOut());
     }
 
     @Test
@@ -0,0 +1,251 @@
+package net.minestom.server.network.player;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.Viewable;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.BackpressurePolicy;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.packet.server.play.EntityTeleportPacket;
+import net.minestom.server.network.packet.server.play.ParticlePacket;
+import net.minestom.server.network.packet.server.play.SystemChatPacket;
+import net.minestom.server.particle.Particle;
+import net.minestom.server.network.socket.Server;
+import net.minestom.server.network.socket.Transport;
+import net.minestom.server.network.socket.Worker;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@EnvTest
+public class PlayerSocketConnectionIntegrationTest {
+
+    @Test
+    public void cachedPacket(Env env) throws IOException {
+        var server = start(env);
+        try (Socket client = connect(server)) {
+            var connection = awaitConnection(server);
+            var packet = new SystemChatPacket(Component.text("Hello World!"), false);
+            var statistics = new CachedPacket.Statistics();
+            var cached = new CachedPacket(() -> packet, statistics);
+
+            // Uncompressed connection, the cached body framed for compression cannot be used
+            connection.setConnectionState(ConnectionState.PLAY);
+            connection.sendPacket(cached);
+            server.tick();
+            assertReceived(client, PacketUtils.allocateTrimmedPacket(ConnectionState.PLAY, packet, false).body());
+            assertEquals(0, statistics.misses());
+            assertEquals(0, statistics.hits());
+
+            // The compressed body is framed once and written as-is to the connection
+            connection.setConnectionState(ConnectionState.LOGIN);
+            connection.startCompression();
+            server.tick();
+            assertReceived(client, PacketUtils.allocateTrimmedPacket(ConnectionState.LOGIN,
+                    new SetCompressionPacket(MinecraftServer.getCompressionThreshold()), false).body());
+            connection.setConnectionState(ConnectionState.PLAY);
+            connection.sendPacket(cached);
+            connection.sendPacket(cached);
+            server.tick();
+            final ByteBuffer body = PacketUtils.allocateTrimmedPacket(ConnectionState.PLAY, packet, true).body();
+            assertReceived(client, body);
+            assertReceived(client, body);
+            assertEquals(1, statistics.misses());
+            assertEquals(1, statistics.hits());
+        }
+    }
+
+    @Test
+    public void backpressureDrop(Env env) throws IOException {
+        var server = start(env);
+        try (Socket client = connect(server)) {
+            var connection = awaitConnection(server);
+            var first = new SystemChatPacket(Component.text("first"), false);
+            var second = new SystemChatPacket(Component.text("second"), false);
+            var particle = new ParticlePacket(Particle.FLAME, 0, 0, 0, 0, 0, 0, 0, 1);
+            var teleport = new EntityTeleportPacket(1, new Pos(1, 2, 3), true);
+            assertFalse(BackpressurePolicy.isDroppable(teleport));
+
+            // The budget is exceeded after the first packet, only the droppable particle is skipped
+            connection.setConnectionState(ConnectionState.PLAY);
+            connection.setOutboundBudget(1);
+            connection.setBackpressurePolicy(BackpressurePolicy.dropDroppable());
+            connection.sendPackets(List.of(first, particle, teleport, second));
+            server.tick();
+            assertReceived(client, PacketUtils.allocateTrimmedPacket(ConnectionState.PLAY, first, false).body());
+            assertReceived(client, PacketUtils.allocateTrimmedPacket(ConnectionState.PLAY, teleport, false).body());
+            assertReceived(client, PacketUtils.allocateTrimmedPacket(ConnectionState.PLAY, second, false).body());
+            assertEquals(1, connection.getDroppedPackets());
+            assertTrue(connection.isOnline());
+        }
+    }
+
+    @Test
+    public void backpressureDisconnect(Env env) throws IOException {
+        var server = start(env);
+        try (Socket client = connect(server)) {
+            var connection = awaitConnection(server);
+            var first = new SystemChatPacket(Component.text("first"), false);
+            var second = new SystemChatPacket(Component.text("second"), false);
+
+            connection.setConnectionState(ConnectionState.PLAY);
+            connection.setOutboundBudget(1);
+            connection.setBackpressurePolicy(BackpressurePolicy.disconnect());
+            connection.sendPackets(List.of(first, second));
+            server.tick();
+            // Data queued before the budget was exceeded is still flushed before closing the socket
+            assertReceived(client, PacketUtils.allocateTrimmedPacket(ConnectionState.PLAY, first, false).body());
+            assertEquals(1, connection.getDroppedPackets());
+            assertFalse(connection.isOnline());
+            server.tick();
+            assertEquals(-1, client.getInputStream().read());
+        }
+    }
+
+    @Test
+    public void backpressureViewable(Env env) throws IOException {
+        var server = start(env);
+        try (Socket client = connect(server)) {
+            var connection = awaitConnection(server);
+            var player = new Player(UUID.randomUUID(), "viewer", connection);
+            var viewable = new Viewable() {
+                @Override
+                public boolean addViewer(@NotNull Player viewer) {
+                    return false;
+                }
+
+                @Override
+                public boolean removeViewer(@NotNull Player viewer) {
+                    return false;
+                }
+
+                @Override
+                public @NotNull Set<@NotNull Player> getViewers() {
+                    return Set.of(player);
+                }
+            };
+            var first = new SystemChatPacket(Component.text("first"), false);
+            var second = new SystemChatPacket(Component.text("second"), false);
+            var particle = new ParticlePacket(Particle.FLAME, 0, 0, 0, 0, 0, 0, 0, 1);
+            var teleport = new EntityTeleportPacket(1, new Pos(1, 2, 3), true);
+
+            // Grouped packets are written in a single region, the policy still applies to each of them
+            connection.setConnectionState(ConnectionState.PLAY);
+            connection.setOutboundBudget(1);
+            connection.setBackpressurePolicy(BackpressurePolicy.dropDroppable());
+            PacketUtils.prepareViewablePacket(viewable, first);
+            for (int i = 0; i < 10; i++) PacketUtils.prepareViewablePacket(viewable, particle);
+            PacketUtils.prepareViewablePacket(viewable, teleport);
+            PacketUtils.prepareViewablePacket(viewable, particle);
+            PacketUtils.flush();
+            server.tick();
+            assertReceived(client, PacketUtils.allocateTrimmedPacket(ConnectionState.PLAY, first).body());
+            assertReceived(client, PacketUtils.allocateTrimmedPacket(ConnectionState.PLAY, teleport).body());
+            assertEquals(11, connection.getDroppedPackets());
+            // The queue has been flushed, the next packet directly follows the teleport
+            connection.sendPacket(second);
+            server.tick();
+            assertReceived(client, PacketUtils.allocateTrimmedPacket(ConnectionState.PLAY, second, false).body());
+            assertTrue(connection.isOnline());
+        }
+    }
+
+    @Test
+    public void flushListTransport() throws IOException {
+        // These like to fail on github actions
+        assumeTrue(System.getenv("GITHUB_ACTIONS") == null);
+
+        InetSocketAddress address = new InetSocketAddress("localhost", 0);
+        var server = new Server(new PacketProcessor(new PacketListenerManager()), Transport.flushList());
+        assertSame(Transport.flushList(), server.transport());
+        server.init(address);
+
+        assertDoesNotThrow(server::start);
+        try (Socket client = connect(server)) {
+            final PlayerSocketConnection connection = awaitConnection(server);
+            final Worker worker = server.workers().stream()
+                    .filter(w -> w.connections().contains(connection)).findFirst().orElseThrow();
+            final byte[] data = {1, 2, 3, 4};
+
+            // Pending data is written once per tick
+            for (int i = 0; i < 3; i++) {
+                connection.write(ByteBuffer.wrap(data));
+                connection.write(ByteBuffer.wrap(data));
+                server.tick();
+                assertArrayEquals(data, client.getInputStream().readNBytes(data.length));
+                assertArrayEquals(data, client.getInputStream().readNBytes(data.length));
+            }
+            sync(worker);
+            assertEquals(3, worker.statistics().writes());
+            assertEquals(1, worker.statistics().writesPerTick());
+
+            // Disconnected connections are flushed once when closed, and leave the flush list
+            connection.write(ByteBuffer.wrap(data));
+            connection.disconnect();
+            server.tick();
+            assertArrayEquals(data, client.getInputStream().readNBytes(data.length));
+            assertEquals(-1, client.getInputStream().read());
+            sync(worker);
+            assertEquals(4, worker.statistics().writes());
+            assertTrue(worker.connections().isEmpty());
+        } finally {
+            server.stop();
+        }
+    }
+
+    static Server start(Env env) {
+        env.process().start(new InetSocketAddress("localhost", 0));
+        return env.process().server();
+    }
+
+    static Socket connect(Server server) throws IOException {
+        Socket socket = new Socket("localhost", server.getPort());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    static PlayerSocketConnection awaitConnection(Server server) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            for (Worker worker : server.workers()) {
+                for (PlayerSocketConnection connection : worker.connections()) return connection;
+            }
+            Thread.onSpinWait();
+        }
+        return fail("The connection has not been accepted");
+    }
+
+    static void assertReceived(Socket client, ByteBuffer expected) throws IOException {
+        byte[] bytes = new byte[expected.remaining()];
+        expected.duplicate().get(bytes);
+        assertArrayEquals(bytes, client.getInputStream().readNBytes(bytes.length));
+    }
+
+    static void sync(Worker worker) {
+        // Waits for the worker to be done with its current loop
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        worker.queue().relaxedOffer(() -> future.complete(null));
+        worker.wakeup();
+        future.orTimeout(5, TimeUnit.SECONDS).join();
+    }
+}
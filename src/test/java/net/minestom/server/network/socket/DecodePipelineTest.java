@@ -0,0 +1,138 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.player.PlayerConnection;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class DecodePipelineTest {
+
+    @Test
+    public void packetOrder(Env env) throws Exception {
+        final int connectionCount = 4, packetCount = 500;
+        Map<PlayerConnection, List<Integer>> received = new ConcurrentHashMap<>();
+        var processor = new RecordingProcessor(received, () -> {
+            // Spread the packets of each connection over multiple decode threads
+            if (ThreadLocalRandom.current().nextInt(8) == 0) LockSupport.parkNanos(50_000);
+        });
+        var server = start(processor, new DecodePipeline(4));
+        List<Socket> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < connectionCount; i++) clients.add(new Socket("localhost", server.getPort()));
+            for (Socket client : clients) client.getOutputStream().write(frames(packetCount));
+            assertTrue(await(() -> received.size() == connectionCount &&
+                    received.values().stream().allMatch(values -> values.size() == packetCount)));
+            final List<Integer> expected = IntStream.range(0, packetCount).boxed().toList();
+            for (List<Integer> values : received.values()) assertEquals(expected, values);
+            assertTrue(await(() -> server.decodePipeline().queuedPackets() == 0));
+        } finally {
+            for (Socket client : clients) client.close();
+            server.stop();
+        }
+    }
+
+    @Test
+    public void queueLimit(Env env) throws Exception {
+        Map<PlayerConnection, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch release = new CountDownLatch(1);
+        var processor = new RecordingProcessor(received, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        var server = start(processor, new DecodePipeline(1));
+        try (Socket client = new Socket("localhost", server.getPort())) {
+            client.setSoTimeout(5000);
+            // The first packet blocks the pipeline while the others exceed the queue size
+            client.getOutputStream().write(frames(ServerFlag.PLAYER_PACKET_QUEUE_SIZE + 100));
+            assertClosed(client);
+            release.countDown();
+            assertTrue(await(() -> server.decodePipeline().queuedPackets() == 0));
+            // Packets queued before the disconnection are discarded, only the blocking one has been processed
+            assertTrue(received.values().stream().mapToInt(List::size).sum() <= 1);
+            final var connection = server.workers().stream()
+                    .flatMap(worker -> worker.connections().stream()).findFirst();
+            assertTrue(connection.isEmpty());
+        } finally {
+            release.countDown();
+            server.stop();
+        }
+    }
+
+    private static Server start(PacketProcessor processor, DecodePipeline pipeline) throws IOException {
+        var server = new Server(processor, Transport.selector(), pipeline);
+        server.init(new InetSocketAddress("localhost", 0));
+        server.start();
+        return server;
+    }
+
+    private static byte[] frames(int count) {
+        ByteBuffer buffer = ByteBuffer.allocate(count * 8);
+        for (int i = 0; i < count; i++) {
+            final int value = i;
+            PacketUtils.writeFramedPacket(buffer, 0, writer -> writer.write(NetworkBuffer.INT, value), 0);
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static void assertClosed(Socket client) throws IOException {
+        try {
+            assertEquals(-1, client.getInputStream().read(), "The connection should be closed");
+        } catch (SocketException e) {
+            // Reset, the server closed the socket with unread data
+        }
+    }
+
+    private static boolean await(BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) return false;
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    private static final class RecordingProcessor extends PacketProcessor {
+        private final Map<PlayerConnection, List<Integer>> received;
+        private final Runnable callback;
+
+        RecordingProcessor(Map<PlayerConnection, List<Integer>> received, Runnable callback) {
+            super(new PacketListenerManager());
+            this.received = received;
+            this.callback = callback;
+        }
+
+        @Override
+        public ClientPacket process(PlayerConnection connection, int packetId, ByteBuffer body) {
+            final int value = body.getInt();
+            this.received.computeIfAbsent(connection, c -> Collections.synchronizedList(new ArrayList<>())).add(value);
+            this.callback.run();
+            return null;
+        }
+    }
+}
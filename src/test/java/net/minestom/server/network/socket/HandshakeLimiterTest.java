@@ -0,0 +1,45 @@
+package net.minestom.server.network.socket;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HandshakeLimiterTest {
+
+    @Test
+    public void burst() throws Exception {
+        HandshakeLimiter limiter = new HandshakeLimiter(0.001, 3);
+        InetAddress address = InetAddress.getByName("127.0.0.1");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(address));
+        }
+        assertFalse(limiter.tryAcquire(address));
+        assertFalse(limiter.tryAcquire(address));
+        assertEquals(2, limiter.droppedPackets());
+    }
+
+    @Test
+    public void perAddress() throws Exception {
+        HandshakeLimiter limiter = new HandshakeLimiter(0.001, 1);
+        assertTrue(limiter.tryAcquire(InetAddress.getByName("127.0.0.1")));
+        assertFalse(limiter.tryAcquire(InetAddress.getByName("127.0.0.1")));
+        assertTrue(limiter.tryAcquire(InetAddress.getByName("127.0.0.2")));
+    }
+
+    @Test
+    public void refill() throws Exception {
+        HandshakeLimiter limiter = new HandshakeLimiter(1000, 1);
+        InetAddress address = InetAddress.getByName("127.0.0.1");
+        assertTrue(limiter.tryAcquire(address));
+        Thread.sleep(20);
+        assertTrue(limiter.tryAcquire(address));
+    }
+
+    @Test
+    public void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new HandshakeLimiter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new HandshakeLimiter(1, 0));
+    }
+}
@@ -0,0 +1,57 @@
+package net.minestom.server.ping;
+
+import net.minestom.server.network.packet.server.status.ResponsePacket;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatusResponseCacheTest {
+
+    @Test
+    public void hit() {
+        var cache = new StatusResponseCache(Duration.ofSeconds(1), () -> 0);
+        assertTrue(cache.isEnabled());
+        assertNull(cache.get(ServerListPingType.MODERN_FULL_RGB));
+
+        var packet = cache.store(ServerListPingType.MODERN_FULL_RGB, new ResponsePacket("{}"));
+        assertSame(packet, cache.get(ServerListPingType.MODERN_FULL_RGB));
+        // Each ping type has its own response
+        assertNull(cache.get(ServerListPingType.MODERN_NAMED_COLORS));
+    }
+
+    @Test
+    public void expiry() {
+        AtomicLong time = new AtomicLong();
+        var cache = new StatusResponseCache(Duration.ofSeconds(1), time::get);
+        var packet = cache.store(ServerListPingType.MODERN_FULL_RGB, new ResponsePacket("{}"));
+
+        time.set(Duration.ofSeconds(1).toNanos());
+        assertSame(packet, cache.get(ServerListPingType.MODERN_FULL_RGB));
+        time.incrementAndGet();
+        assertNull(cache.get(ServerListPingType.MODERN_FULL_RGB));
+    }
+
+    @Test
+    public void invalidate() {
+        var cache = new StatusResponseCache(Duration.ofSeconds(1), () -> 0);
+        cache.store(ServerListPingType.MODERN_FULL_RGB, new ResponsePacket("{}"));
+        cache.store(ServerListPingType.LEGACY_UNVERSIONED, new ResponsePacket("{}"));
+
+        cache.invalidate();
+        assertNull(cache.get(ServerListPingType.MODERN_FULL_RGB));
+        assertNull(cache.get(ServerListPingType.LEGACY_UNVERSIONED));
+    }
+
+    @Test
+    public void disabled() {
+        var cache = new StatusResponseCache(Duration.ZERO, () -> 0);
+        assertFalse(cache.isEnabled());
+        var packet = cache.store(ServerListPingType.MODERN_FULL_RGB, new ResponsePacket("{}"));
+        assertNotNull(packet);
+        assertNull(cache.get(ServerListPingType.MODERN_FULL_RGB));
+        assertThrows(IllegalArgumentException.class, () -> new StatusResponseCache(Duration.ofSeconds(-1)));
+    }
+}
@@ -4,11 +4,14 @@ import net.minestom.server.Tickable;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -167,4 +170,89 @@ public class ThreadDispatcherTest {
 
         dispatcher.shutdown();
     }
+
+    @Test
+    public void balancedThreads() {
+        // Heavy partitions initially on the same thread should be spread
+        final int threadCount = 2;
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.of(ThreadProvider.balanced(), threadCount);
+
+        Map<Tickable, Thread> threads = new ConcurrentHashMap<>();
+        List<Tickable> partitions = IntStream.range(0, 4)
+                .mapToObj(value -> (Tickable) new Tickable() {
+                    @Override
+                    public void tick(long time) {
+                        threads.put(this, Thread.currentThread());
+                        // Partitions 0 and 2 are placed on the first thread by the counter
+                        if (value % 2 == 0) {
+                            final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1);
+                            while (System.nanoTime() < end) Thread.onSpinWait();
+                        }
+                    }
+                }).toList();
+        partitions.forEach(dispatcher::createPartition);
+
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(threads.get(partitions.get(0)), threads.get(partitions.get(2)));
+
+        for (int i = 0; i < 20; i++) {
+            dispatcher.refreshThreads();
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+        }
+        assertNotEquals(threads.get(partitions.get(0)), threads.get(partitions.get(2)));
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void balancedGroups() {
+        // Partitions sharing the same id should be moved together
+        final int threadCount = 2;
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.of(new ThreadProvider<>() {
+            @Override
+            public int findThread(@NotNull Tickable partition) {
+                return ((IntSupplier) partition).getAsInt() / 2;
+            }
+
+            @Override
+            public @NotNull RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        }, threadCount);
+
+        Map<Tickable, Thread> threads = new ConcurrentHashMap<>();
+        interface Grouped extends Tickable, IntSupplier {
+        }
+        List<Tickable> partitions = IntStream.range(0, 6)
+                .mapToObj(value -> (Tickable) new Grouped() {
+                    @Override
+                    public int getAsInt() {
+                        return value;
+                    }
+
+                    @Override
+                    public void tick(long time) {
+                        threads.put(this, Thread.currentThread());
+                        // Groups 0 and 2 are placed on the first thread
+                        if (value / 2 != 1) {
+                            final long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(500);
+                            while (System.nanoTime() < end) Thread.onSpinWait();
+                        }
+                    }
+                }).toList();
+        partitions.forEach(dispatcher::createPartition);
+
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(threads.get(partitions.get(0)), threads.get(partitions.get(4)));
+
+        for (int i = 0; i < 20; i++) {
+            dispatcher.refreshThreads();
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+            assertEquals(threads.get(partitions.get(0)), threads.get(partitions.get(1)));
+            assertEquals(threads.get(partitions.get(4)), threads.get(partitions.get(5)));
+        }
+        assertNotEquals(threads.get(partitions.get(0)), threads.get(partitions.get(4)));
+
+        dispatcher.shutdown();
+    }
 }
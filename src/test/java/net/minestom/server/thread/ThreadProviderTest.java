@@ -0,0 +1,141 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ThreadProviderTest {
+
+    @Test
+    public void regions(Env env) {
+        var instance = env.createFlatInstance();
+        var provider = ThreadProvider.regions(4);
+        assertEquals(ThreadProvider.RefreshType.BALANCED, provider.refreshType());
+
+        final int id = provider.findThread(chunk(instance, 0, 0));
+        assertEquals(id, provider.findThread(chunk(instance, 3, 3)));
+        assertNotEquals(id, provider.findThread(chunk(instance, 4, 0)));
+        assertNotEquals(id, provider.findThread(chunk(instance, 0, 4)));
+        // Negative coordinates start a new region
+        assertNotEquals(id, provider.findThread(chunk(instance, -1, 0)));
+        assertEquals(provider.findThread(chunk(instance, -1, 0)), provider.findThread(chunk(instance, -4, 3)));
+        // Instances do not share regions
+        assertNotEquals(id, provider.findThread(chunk(env.createFlatInstance(), 0, 0)));
+
+        assertThrows(IllegalArgumentException.class, () -> ThreadProvider.regions(0));
+    }
+
+    @Test
+    public void named() {
+        assertEquals(ThreadProvider.RefreshType.NEVER, ThreadProvider.named("counter", 8).refreshType());
+        assertEquals(ThreadProvider.RefreshType.BALANCED, ThreadProvider.named("balanced", 8).refreshType());
+        assertEquals(ThreadProvider.RefreshType.BALANCED, ThreadProvider.named("regions", 8).refreshType());
+        assertThrows(IllegalArgumentException.class, () -> ThreadProvider.named("unknown", 8));
+    }
+
+    @Test
+    public void negativeIds() {
+        // Any id is mapped to a thread
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(partition -> Integer.MIN_VALUE, 3);
+        var partition = new Object();
+        dispatcher.createPartition(partition);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void balancedRegions(Env env) {
+        // Two regions of 4 chunks, each chunk having an expensive entity
+        var instance = env.createFlatInstance();
+        ThreadDispatcher<Chunk> dispatcher = ThreadDispatcher.of(ThreadProvider.regions(2), 2);
+        Map<Chunk, Thread> threads = new ConcurrentHashMap<>();
+        List<Chunk> chunks = new ArrayList<>();
+        for (int x = 0; x < 4; x++) {
+            for (int z = 0; z < 2; z++) {
+                final Chunk chunk = chunk(instance, x, z);
+                chunks.add(chunk);
+                dispatcher.createPartition(chunk);
+                dispatcher.updateElement(new Entity(EntityType.ZOMBIE) {
+                    @Override
+                    public void tick(long time) {
+                        threads.put(chunk, Thread.currentThread());
+                        final long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(250);
+                        while (System.nanoTime() < end) Thread.onSpinWait();
+                    }
+                }, chunk);
+            }
+        }
+
+        for (int i = 0; i < 20; i++) {
+            dispatcher.refreshThreads();
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+            // Regions are moved as a whole
+            for (Chunk chunk : chunks) {
+                final Chunk first = chunks.get((chunk.getChunkX() / 2) * 4);
+                assertEquals(threads.get(first), threads.get(chunk));
+            }
+        }
+        assertNotEquals(threads.get(chunks.get(0)), threads.get(chunks.get(4)));
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void crossThreadAcquisitions(Env env) {
+        // Each entity acquires its neighbour in the next chunk
+        var instance = env.createFlatInstance();
+        final long counter = crossThreadAcquisitions(instance, ThreadProvider.counter());
+        final long regions = crossThreadAcquisitions(instance, ThreadProvider.regions(4));
+        // Neighbouring chunks are always on distinct threads with the counter
+        assertEquals(8 * 7, counter);
+        // Regions only acquire across their border
+        assertTrue(regions <= 8, "Too many cross-thread acquisitions: " + regions);
+    }
+
+    private static long crossThreadAcquisitions(Instance instance, ThreadProvider<Chunk> provider) {
+        ThreadDispatcher<Chunk> dispatcher = ThreadDispatcher.of(provider, 4);
+        Entity[][] entities = new Entity[8][8];
+        for (int x = 0; x < 8; x++) {
+            for (int z = 0; z < 8; z++) {
+                final int neighbourX = x, neighbourZ = z + 1;
+                final Entity entity = new Entity(EntityType.ZOMBIE) {
+                    @Override
+                    public void tick(long time) {
+                        if (neighbourZ == 8) return;
+                        entities[neighbourX][neighbourZ].acquirable().sync(neighbour -> {
+                        });
+                    }
+                };
+                entities[x][z] = entity;
+                final Chunk chunk = chunk(instance, x, z);
+                dispatcher.createPartition(chunk);
+                dispatcher.updateElement(entity, chunk);
+            }
+        }
+        // Assign the threads
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        Acquirable.resetCrossThreadAcquisitions();
+
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        final long acquisitions = Acquirable.resetCrossThreadAcquisitions();
+        dispatcher.shutdown();
+        return acquisitions;
+    }
+
+    private static Chunk chunk(Instance instance, int chunkX, int chunkZ) {
+        return instance.loadChunk(chunkX, chunkZ).join();
+    }
+}
@@ -0,0 +1,42 @@
+package net.minestom.server.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickWaitStrategyTest {
+
+    @Test
+    public void deadline() throws InterruptedException {
+        final long waitNanos = TimeUnit.MILLISECONDS.toNanos(5);
+        for (TickWaitStrategy strategy : List.of(TickWaitStrategy.sleep(), TickWaitStrategy.hybrid(waitNanos / 5),
+                TickWaitStrategy.park(), TickWaitStrategy.spin())) {
+            final long deadline = System.nanoTime() + waitNanos;
+            strategy.waitUntil(deadline);
+            assertTrue(System.nanoTime() >= deadline);
+        }
+    }
+
+    @Test
+    public void pastDeadline() throws InterruptedException {
+        final long deadline = System.nanoTime() - 1;
+        TickWaitStrategy.park().waitUntil(deadline);
+        TickWaitStrategy.hybrid(0).waitUntil(deadline);
+    }
+
+    @Test
+    public void interrupted() {
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class,
+                () -> TickWaitStrategy.park().waitUntil(System.nanoTime() + TimeUnit.SECONDS.toNanos(1)));
+        assertFalse(Thread.interrupted());
+    }
+
+    @Test
+    public void invalidSpinWindow() {
+        assertThrows(IllegalArgumentException.class, () -> TickWaitStrategy.hybrid(-1));
+    }
+}
@@ -3,7 +3,11 @@ package net.minestom.server.timer;
 import net.minestom.server.MinecraftServer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -201,4 +205,132 @@ public class TestScheduler {
         scheduler.processTickEnd();
         assertTrue(result.get(), "Tick end task must be executed after 1 second");
     }
+
+    @Test
+    public void distantTickTasks() {
+        // Delays spanning multiple wheel levels must run on their exact tick
+        Scheduler scheduler = Scheduler.newScheduler();
+        final int[] delays = {1, 63, 64, 65, 255, 256, 257, 511, 4095, 4096, 65535, 65536, 70_000};
+        final int[] executedTicks = new int[delays.length];
+        final AtomicInteger tick = new AtomicInteger();
+        for (int i = 0; i < delays.length; i++) {
+            final int index = i;
+            scheduler.buildTask(() -> executedTicks[index] = tick.get())
+                    .delay(TaskSchedule.tick(delays[i]))
+                    .schedule();
+        }
+        while (tick.get() < 70_000) {
+            tick.incrementAndGet();
+            scheduler.processTick();
+        }
+        assertArrayEquals(delays, executedTicks);
+    }
+
+    @Test
+    public void cancelDistantTask() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        AtomicBoolean result = new AtomicBoolean(false);
+        var task = scheduler.buildTask(() -> result.set(true))
+                .delay(TaskSchedule.tick(300))
+                .schedule();
+        for (int i = 0; i < 100; i++) scheduler.processTick();
+        task.cancel();
+        for (int i = 0; i < 300; i++) scheduler.processTick();
+        assertFalse(result.get(), "Task should be cancelled");
+    }
+
+    @Test
+    public void wheelLevels() {
+        TimingWheel wheel = new TimingWheel(0);
+        List<TaskImpl> expired = new ArrayList<>();
+        assertEquals(0, wheel.allocatedLevels(), "Levels should be allocated on the first task");
+
+        TaskImpl first = new TaskImpl(0, TaskSchedule::stop, ExecutionType.TICK_START, new SchedulerImpl());
+        TaskImpl second = new TaskImpl(1, TaskSchedule::stop, ExecutionType.TICK_START, new SchedulerImpl());
+        assertTrue(wheel.add(first, 5_000));
+        assertTrue(wheel.add(second, 5_000));
+        assertEquals(1, wheel.allocatedLevels());
+
+        wheel.advance(4_999, expired::add);
+        assertEquals(List.of(), expired);
+        assertEquals(1, wheel.allocatedLevels(), "Empty upper levels should be released");
+        wheel.advance(5_000, expired::add);
+        assertEquals(List.of(first, second), expired, "Tasks should expire in insertion order");
+        wheel.advance(5_001, expired::add);
+        assertEquals(0, wheel.allocatedLevels(), "Empty wheels should be released");
+        assertFalse(wheel.add(first, 5_001));
+    }
+
+    @Test
+    public void concurrentSubmission() throws InterruptedException {
+        Scheduler scheduler = Scheduler.newScheduler();
+        AtomicInteger result = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    scheduler.buildTask(result::incrementAndGet).delay(TaskSchedule.tick(1 + j % 10)).schedule();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) thread.join();
+        for (int i = 0; i < 11; i++) scheduler.processTick();
+        assertEquals(4000, result.get());
+    }
+
+    @Test
+    public void virtualTasks() throws InterruptedException {
+        Scheduler scheduler = Scheduler.newScheduler(2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(5);
+        AtomicBoolean virtual = new AtomicBoolean(true);
+        for (int i = 0; i < 5; i++) {
+            scheduler.buildTask(() -> {
+                started.countDown();
+                if (!Thread.currentThread().isVirtual()) virtual.set(false);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                done.countDown();
+            }).executionType(ExecutionType.VIRTUAL).schedule();
+        }
+        // The first executions, returning the delay, also run on virtual threads
+        awaitCompleted(scheduler, 5);
+        assertEquals(new Scheduler.VirtualTasks(0, 0, 5, 2), scheduler.virtualTasks());
+        scheduler.processTick();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        var tasks = scheduler.virtualTasks();
+        assertEquals(2, tasks.running(), "Running tasks should be limited");
+        assertEquals(3, tasks.queued());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual.get(), "Tasks should run on virtual threads");
+        // Completion is recorded once the task returns
+        awaitCompleted(scheduler, 10);
+        assertEquals(new Scheduler.VirtualTasks(0, 0, 10, 2), scheduler.virtualTasks());
+    }
+
+    @Test
+    public void virtualFirstExecution() throws InterruptedException {
+        Scheduler scheduler = Scheduler.newScheduler();
+        CountDownLatch executed = new CountDownLatch(1);
+        AtomicBoolean virtual = new AtomicBoolean();
+        scheduler.submitTask(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            executed.countDown();
+            return TaskSchedule.stop();
+        }, ExecutionType.VIRTUAL);
+        assertTrue(executed.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual.get(), "The first execution should not run in the caller thread");
+    }
+
+    private static void awaitCompleted(Scheduler scheduler, long completed) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.virtualTasks().completed() < completed && System.nanoTime() < deadline) Thread.onSpinWait();
+    }
 }
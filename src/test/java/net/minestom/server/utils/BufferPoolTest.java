@@ -0,0 +1,45 @@
+package net.minestom.server.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BufferPoolTest {
+
+    @Test
+    public void sizeClass() {
+        var pool = new BufferPool(16, 256, 4096);
+        assertEquals(16, pool.get().capacity());
+        assertEquals(16, pool.get(8).capacity());
+        // Buffers cannot be completely filled
+        assertEquals(256, pool.get(16).capacity());
+        assertEquals(4096, pool.get(1000).capacity());
+        // Largest class when no class is big enough
+        assertEquals(4096, pool.get(10_000).capacity());
+    }
+
+    @Test
+    public void statistics() {
+        var pool = new BufferPool(16, 256);
+        var buffer = pool.get();
+        var stats = pool.statistics().get(0);
+        assertEquals(16, stats.size());
+        assertEquals(0, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.outstanding());
+
+        pool.add(buffer);
+        stats = pool.statistics().get(0);
+        assertEquals(0, stats.outstanding());
+        assertEquals(1, stats.pooled());
+
+        assertSame(buffer, pool.get());
+        stats = pool.statistics().get(0);
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+
+        // Other classes are untouched
+        stats = pool.statistics().get(1);
+        assertEquals(0, stats.hits() + stats.misses());
+    }
+}
@@ -0,0 +1,55 @@
+package net.minestom.testing.bot;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.network.ConnectionState;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+
+/**
+ * Headless client connected to a server through a real TCP socket.
+ * <p>
+ * Bots go through the handshake, login and configuration phases on their own, answer keep alives,
+ * pings and teleports, and can then be driven by a {@link BotScenario}.
+ * Only offline mode is supported, packets are compressed if requested by the server.
+ */
+public interface Bot {
+    static @NotNull Bot connect(@NotNull SocketAddress address, @NotNull String username) throws IOException {
+        return new BotImpl(address, username);
+    }
+
+    @NotNull String username();
+
+    @NotNull ConnectionState state();
+
+    /**
+     * Gets if the bot is in the play state and confirmed its spawn position.
+     *
+     * @return true if the bot can move
+     */
+    boolean isPlaying();
+
+    boolean isConnected();
+
+    /**
+     * Gets the last position confirmed by the server or sent by the bot.
+     *
+     * @return the bot position
+     */
+    @NotNull Pos position();
+
+    void move(@NotNull Pos position);
+
+    void chat(@NotNull String message);
+
+    void placeBlock(@NotNull Point blockPosition, @NotNull BlockFace face);
+
+    long bytesRead();
+
+    long bytesWritten();
+
+    void close();
+}
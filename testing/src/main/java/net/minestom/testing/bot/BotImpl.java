@@ -0,0 +1,295 @@
+package net.minestom.testing.bot;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.common.ClientKeepAlivePacket;
+import net.minestom.server.network.packet.client.common.ClientPongPacket;
+import net.minestom.server.network.packet.client.configuration.ClientFinishConfigurationPacket;
+import net.minestom.server.network.packet.client.configuration.ClientSelectKnownPacksPacket;
+import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
+import net.minestom.server.network.packet.client.login.ClientLoginAcknowledgedPacket;
+import net.minestom.server.network.packet.client.login.ClientLoginPluginResponsePacket;
+import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
+import net.minestom.server.network.packet.client.play.*;
+import net.minestom.server.network.packet.server.ServerPacketIdentifier;
+import net.minestom.server.network.packet.server.common.KeepAlivePacket;
+import net.minestom.server.network.packet.server.common.PingPacket;
+import net.minestom.server.network.packet.server.configuration.SelectKnownPacksPacket;
+import net.minestom.server.network.packet.server.login.LoginPluginRequestPacket;
+import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.packet.server.play.PlayerPositionAndLookPacket;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.Utils;
+import net.minestom.server.utils.position.PositionUtils;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.BitSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+final class BotImpl implements Bot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BotImpl.class);
+
+    // Client packet ids, in the registration order of ClientPacketsHandler
+    private static final int HANDSHAKE = 0x00;
+    private static final int LOGIN_START = 0x00;
+    private static final int LOGIN_PLUGIN_RESPONSE = 0x02;
+    private static final int LOGIN_ACKNOWLEDGED = 0x03;
+    private static final int CONFIGURATION_FINISH = 0x03;
+    private static final int CONFIGURATION_KEEP_ALIVE = 0x04;
+    private static final int CONFIGURATION_PONG = 0x05;
+    private static final int CONFIGURATION_SELECT_KNOWN_PACKS = 0x07;
+    private static final int TELEPORT_CONFIRM = 0x00;
+    private static final int CHAT_MESSAGE = 0x06;
+    private static final int CHUNK_BATCH_RECEIVED = 0x08;
+    private static final int CONFIGURATION_ACK = 0x0C;
+    private static final int KEEP_ALIVE = 0x18;
+    private static final int PLAYER_POSITION_AND_ROTATION = 0x1B;
+    private static final int PONG = 0x27;
+    private static final int BLOCK_PLACEMENT = 0x38;
+
+    private static final int INITIAL_READ_CAPACITY = 32_768;
+    // Chunks per tick requested after each chunk batch
+    private static final float CHUNKS_PER_TICK = 25f;
+
+    private final String username;
+    private final SocketChannel channel;
+    private final Inflater inflater = new Inflater();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(4096);
+    private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_READ_CAPACITY);
+
+    private volatile ConnectionState state = ConnectionState.HANDSHAKE;
+    private volatile int compressionThreshold = 0;
+    private volatile boolean playing;
+    private volatile Pos position = Pos.ZERO;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    BotImpl(SocketAddress address, String username) throws IOException {
+        this.username = username;
+        this.channel = SocketChannel.open(address);
+        this.channel.socket().setTcpNoDelay(true);
+        final String host = address instanceof InetSocketAddress inet ? inet.getHostString() : "localhost";
+        final int port = address instanceof InetSocketAddress inet ? inet.getPort() : 25565;
+        send(HANDSHAKE, new ClientHandshakePacket(MinecraftServer.PROTOCOL_VERSION, host, port, ClientHandshakePacket.Intent.LOGIN));
+        this.state = ConnectionState.LOGIN;
+        send(LOGIN_START, new ClientLoginStartPacket(username, UUID.nameUUIDFromBytes(("OfflinePlayer:" + username).getBytes())));
+        Thread.ofVirtual().name("Ms-bot-" + username).start(this::readLoop);
+    }
+
+    @Override
+    public @NotNull String username() {
+        return username;
+    }
+
+    @Override
+    public @NotNull ConnectionState state() {
+        return state;
+    }
+
+    @Override
+    public boolean isPlaying() {
+        return playing && channel.isOpen();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public @NotNull Pos position() {
+        return position;
+    }
+
+    @Override
+    public void move(@NotNull Pos position) {
+        if (!isPlaying()) return;
+        this.position = position;
+        send(PLAYER_POSITION_AND_ROTATION, new ClientPlayerPositionAndRotationPacket(position, true));
+    }
+
+    @Override
+    public void chat(@NotNull String message) {
+        if (!isPlaying()) return;
+        send(CHAT_MESSAGE, new ClientChatMessagePacket(message, System.currentTimeMillis(), 0, null, 0, new BitSet()));
+    }
+
+    @Override
+    public void placeBlock(@NotNull Point blockPosition, @NotNull BlockFace face) {
+        if (!isPlaying()) return;
+        send(BLOCK_PLACEMENT, new ClientPlayerBlockPlacementPacket(Player.Hand.MAIN, blockPosition, face,
+                0.5f, 1f, 0.5f, false, sequence.incrementAndGet()));
+    }
+
+    @Override
+    public long bytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public void close() {
+        this.playing = false;
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close bot {}", username, e);
+        }
+    }
+
+    private void readLoop() {
+        try {
+            while (channel.isOpen()) {
+                final int length = channel.read(readBuffer);
+                if (length == -1) break;
+                this.bytesRead.add(length);
+                readPackets();
+            }
+        } catch (IOException | DataFormatException e) {
+            if (channel.isOpen()) LOGGER.warn("Bot {} disconnected", username, e);
+        } finally {
+            close();
+            this.inflater.end();
+        }
+    }
+
+    /**
+     * Handles the complete packets in the read buffer, the compression threshold may change between packets.
+     */
+    private void readPackets() throws DataFormatException {
+        final ByteBuffer buffer = this.readBuffer.flip();
+        while (buffer.hasRemaining()) {
+            final int start = buffer.position();
+            final int packetLength;
+            try {
+                packetLength = Utils.readVarInt(buffer);
+            } catch (BufferUnderflowException e) {
+                buffer.position(start);
+                break;
+            }
+            if (buffer.remaining() < packetLength) {
+                buffer.position(start);
+                break;
+            }
+            final int end = buffer.position() + packetLength;
+            ByteBuffer payload = buffer.slice(buffer.position(), packetLength);
+            if (compressionThreshold > 0) {
+                final int dataLength = Utils.readVarInt(payload);
+                if (dataLength != 0) {
+                    byte[] data = new byte[dataLength];
+                    inflater.reset();
+                    inflater.setInput(payload);
+                    if (inflater.inflate(data) != dataLength) {
+                        throw new DataFormatException("Invalid compressed packet");
+                    }
+                    payload = ByteBuffer.wrap(data);
+                }
+            }
+            final int id = Utils.readVarInt(payload);
+            handle(id, payload);
+            buffer.position(end);
+        }
+        buffer.compact();
+        if (!buffer.hasRemaining()) {
+            // Incomplete packet larger than the buffer
+            if (buffer.capacity() >= ServerFlag.MAX_PACKET_SIZE) throw new DataFormatException("Packet too large");
+            this.readBuffer = ByteBuffer.allocate(Math.min(buffer.capacity() * 2, ServerFlag.MAX_PACKET_SIZE))
+                    .put(buffer.flip());
+        }
+    }
+
+    private void handle(int id, ByteBuffer payload) {
+        switch (state) {
+            case LOGIN -> {
+                if (id == ServerPacketIdentifier.LOGIN_SET_COMPRESSION) {
+                    this.compressionThreshold = new SetCompressionPacket(new NetworkBuffer(payload)).threshold();
+                } else if (id == ServerPacketIdentifier.LOGIN_PLUGIN_REQUEST) {
+                    final var request = new LoginPluginRequestPacket(new NetworkBuffer(payload));
+                    send(LOGIN_PLUGIN_RESPONSE, new ClientLoginPluginResponsePacket(request.messageId(), null));
+                } else if (id == ServerPacketIdentifier.LOGIN_SUCCESS) {
+                    send(LOGIN_ACKNOWLEDGED, new ClientLoginAcknowledgedPacket());
+                    this.state = ConnectionState.CONFIGURATION;
+                } else if (id == ServerPacketIdentifier.LOGIN_DISCONNECT) {
+                    close();
+                }
+            }
+            case CONFIGURATION -> {
+                if (id == ServerPacketIdentifier.CONFIGURATION_SELECT_KNOWN_PACKS) {
+                    // Same packs as the server, like a vanilla client of the same version
+                    final var packs = new SelectKnownPacksPacket(new NetworkBuffer(payload)).entries();
+                    send(CONFIGURATION_SELECT_KNOWN_PACKS, new ClientSelectKnownPacksPacket(packs));
+                } else if (id == ServerPacketIdentifier.CONFIGURATION_KEEP_ALIVE) {
+                    send(CONFIGURATION_KEEP_ALIVE, new ClientKeepAlivePacket(new KeepAlivePacket(new NetworkBuffer(payload)).id()));
+                } else if (id == ServerPacketIdentifier.CONFIGURATION_PING) {
+                    send(CONFIGURATION_PONG, new ClientPongPacket(new PingPacket(new NetworkBuffer(payload)).id()));
+                } else if (id == ServerPacketIdentifier.CONFIGURATION_FINISH_CONFIGURATION) {
+                    send(CONFIGURATION_FINISH, new ClientFinishConfigurationPacket());
+                    this.state = ConnectionState.PLAY;
+                } else if (id == ServerPacketIdentifier.CONFIGURATION_DISCONNECT) {
+                    close();
+                }
+            }
+            case PLAY -> {
+                if (id == ServerPacketIdentifier.KEEP_ALIVE) {
+                    send(KEEP_ALIVE, new ClientKeepAlivePacket(new KeepAlivePacket(new NetworkBuffer(payload)).id()));
+                } else if (id == ServerPacketIdentifier.PING) {
+                    send(PONG, new ClientPongPacket(new PingPacket(new NetworkBuffer(payload)).id()));
+                } else if (id == ServerPacketIdentifier.PLAYER_POSITION_AND_LOOK) {
+                    final var packet = new PlayerPositionAndLookPacket(new NetworkBuffer(payload));
+                    this.position = PositionUtils.getPositionWithRelativeFlags(position, packet.position(), packet.flags());
+                    send(TELEPORT_CONFIRM, new ClientTeleportConfirmPacket(packet.teleportId()));
+                    this.playing = true;
+                } else if (id == ServerPacketIdentifier.CHUNK_BATCH_FINISHED) {
+                    send(CHUNK_BATCH_RECEIVED, new ClientChunkBatchReceivedPacket(CHUNKS_PER_TICK));
+                } else if (id == ServerPacketIdentifier.START_CONFIGURATION_PACKET) {
+                    this.playing = false;
+                    send(CONFIGURATION_ACK, new ClientConfigurationAckPacket());
+                    this.state = ConnectionState.CONFIGURATION;
+                } else if (id == ServerPacketIdentifier.DISCONNECT) {
+                    close();
+                }
+            }
+        }
+    }
+
+    private void send(int id, ClientPacket packet) {
+        synchronized (writeBuffer) {
+            if (!channel.isOpen()) return;
+            final ByteBuffer buffer = writeBuffer.clear();
+            PacketUtils.writeFramedPacket(buffer, id, packet, compressionThreshold);
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    this.bytesWritten.add(channel.write(buffer));
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package net.minestom.testing.bot;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Actions executed by each playing bot every tick.
+ */
+@FunctionalInterface
+public interface BotScenario {
+    /**
+     * Walks in a random direction, changing direction every 40 ticks.
+     */
+    static @NotNull BotScenario walk() {
+        return (bot, tick) -> {
+            final double angle = Math.toRadians(((tick / 40) * 97 + bot.username().hashCode()) % 360);
+            final double speed = 0.2; // Walking speed in blocks per tick
+            final var position = bot.position();
+            bot.move(position.add(Math.cos(angle) * speed, 0, Math.sin(angle) * speed)
+                    .withYaw((float) Math.toDegrees(angle) - 90));
+        };
+    }
+
+    /**
+     * Sends a chat message every {@code interval} ticks.
+     */
+    static @NotNull BotScenario chat(int interval) {
+        return (bot, tick) -> {
+            if (tick % interval == 0) bot.chat("Hello from " + bot.username() + " at tick " + tick);
+        };
+    }
+
+    /**
+     * Places a block on the ground next to the bot every {@code interval} ticks.
+     * <p>
+     * The server decides if the block is placed, e.g. depending on the bot game mode and inventory.
+     */
+    static @NotNull BotScenario placeBlocks(int interval) {
+        return (bot, tick) -> {
+            if (tick % interval != 0) return;
+            final var random = ThreadLocalRandom.current();
+            final var below = bot.position().add(random.nextInt(-2, 3), -1, random.nextInt(-2, 3));
+            bot.placeBlock(new Vec(below.blockX(), below.blockY(), below.blockZ()), BlockFace.TOP);
+        };
+    }
+
+    static @NotNull BotScenario of(@NotNull BotScenario @NotNull ... scenarios) {
+        return (bot, tick) -> {
+            for (BotScenario scenario : scenarios) scenario.tick(bot, tick);
+        };
+    }
+
+    void tick(@NotNull Bot bot, long tick);
+}
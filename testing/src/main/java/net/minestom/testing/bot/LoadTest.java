@@ -0,0 +1,165 @@
+package net.minestom.testing.bot;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.ServerProcess;
+import net.minestom.server.event.EventListener;
+import net.minestom.server.event.server.ServerTickMonitorEvent;
+import net.minestom.server.monitoring.LatencyHistogram;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Capacity test connecting bots to a server running in the same JVM.
+ * <p>
+ * Bots connect through real sockets at a fixed rate, then run their {@link BotScenario} every tick until the end
+ * of the test. The server tick time, the traffic of each bot and the garbage collection time are reported.
+ */
+public final class LoadTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTest.class);
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1) / ServerFlag.SERVER_TICKS_PER_SECOND;
+
+    private final ServerProcess process;
+    private final SocketAddress address;
+    private int bots = 100;
+    private int connectionsPerTick = 20;
+    private Duration duration = Duration.ofMinutes(1);
+    private BotScenario scenario = BotScenario.of(BotScenario.walk(), BotScenario.chat(100), BotScenario.placeBlocks(40));
+
+    /**
+     * @param process the server process, must be started and listening on {@code address}
+     * @param address the server address
+     */
+    public LoadTest(@NotNull ServerProcess process, @NotNull SocketAddress address) {
+        this.process = process;
+        this.address = address;
+    }
+
+    public @NotNull LoadTest bots(int bots) {
+        this.bots = bots;
+        return this;
+    }
+
+    public @NotNull LoadTest connectionsPerTick(int connectionsPerTick) {
+        this.connectionsPerTick = connectionsPerTick;
+        return this;
+    }
+
+    public @NotNull LoadTest duration(@NotNull Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    public @NotNull LoadTest scenario(@NotNull BotScenario scenario) {
+        this.scenario = scenario;
+        return this;
+    }
+
+    /**
+     * Runs the test on the calling thread, all bots are disconnected before returning.
+     *
+     * @return the test report
+     */
+    public @NotNull Report run() {
+        final LatencyHistogram tickTime = new LatencyHistogram();
+        final var listener = EventListener.of(ServerTickMonitorEvent.class,
+                event -> tickTime.record((long) (event.getTickMonitor().getTickTime() * 1_000_000)));
+        this.process.eventHandler().addListener(listener);
+        final long gcCount = gcCount(), gcTime = gcTime();
+
+        List<Bot> connected = new ArrayList<>(bots);
+        int failed = 0;
+        long tick = 0;
+        final long end = System.nanoTime() + duration.toNanos();
+        long nextTick = System.nanoTime();
+        try {
+            while (System.nanoTime() < end) {
+                // Connect the next bots
+                for (int i = 0; i < connectionsPerTick && connected.size() + failed < bots; i++) {
+                    final String username = "Bot" + (connected.size() + failed);
+                    try {
+                        connected.add(Bot.connect(address, username));
+                    } catch (IOException e) {
+                        LOGGER.warn("Failed to connect {}", username, e);
+                        failed++;
+                    }
+                }
+                for (Bot bot : connected) {
+                    if (bot.isPlaying()) scenario.tick(bot, tick);
+                }
+                tick++;
+                nextTick += TICK_NANOS;
+                LockSupport.parkNanos(nextTick - System.nanoTime());
+            }
+        } finally {
+            this.process.eventHandler().removeListener(listener);
+        }
+
+        int playing = 0;
+        long bytesRead = 0, bytesWritten = 0;
+        for (Bot bot : connected) {
+            if (bot.isPlaying()) playing++;
+            bytesRead += bot.bytesRead();
+            bytesWritten += bot.bytesWritten();
+            bot.close();
+        }
+        final int count = Math.max(1, connected.size());
+        return new Report(connected.size(), playing, failed, tickTime.snapshot(),
+                bytesRead / count, bytesWritten / count,
+                gcCount() - gcCount, Duration.ofMillis(gcTime() - gcTime));
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, bean.getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * @param connected          the number of bots connected to the server
+     * @param playing            the number of bots still in the play state at the end of the test
+     * @param failed             the number of bots unable to connect
+     * @param tickTime           the server tick duration, in nanoseconds
+     * @param bytesReadPerBot    the average number of bytes received by each bot
+     * @param bytesWrittenPerBot the average number of bytes sent by each bot
+     * @param gcCount            the number of garbage collections during the test
+     * @param gcTime             the accumulated garbage collection time during the test
+     */
+    public record Report(int connected, int playing, int failed,
+                         @NotNull LatencyHistogram.Snapshot tickTime,
+                         long bytesReadPerBot, long bytesWrittenPerBot,
+                         long gcCount, @NotNull Duration gcTime) {
+        @Override
+        public String toString() {
+            return String.format("""
+                            Bots: %d connected, %d playing, %d failed
+                            Tick time (ms): mean %.2f, p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f
+                            Bytes per bot: %d received, %d sent
+                            GC: %d collections, %d ms""",
+                    connected, playing, failed,
+                    tickTime.mean() / 1e6, tickTime.p50() / 1e6, tickTime.p90() / 1e6,
+                    tickTime.p99() / 1e6, tickTime.p999() / 1e6, tickTime.max() / 1e6,
+                    bytesReadPerBot, bytesWrittenPerBot, gcCount, gcTime.toMillis());
+        }
+    }
+}